@@ -0,0 +1,57 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.leadware.persistence.tools.api.dao.constants;
+
+/**
+ * Fonction d'agrégation calculée par la base de données
+ * @author <a href="mailto:jetune@leadware.net">Jean-Jacques ETUNE NGI (Leadware Enterprise Architect)</a>
+ * @since 18 oct. 2026 - 13:02:40
+ */
+public enum AggregateFunction {
+	
+	/**
+	 * Nombre de valeurs non nulles
+	 */
+	COUNT,
+	
+	/**
+	 * Nombre de valeurs distinctes non nulles
+	 */
+	COUNT_DISTINCT,
+	
+	/**
+	 * Somme (propriété numérique)
+	 */
+	SUM,
+	
+	/**
+	 * Moyenne (propriété numérique)
+	 */
+	AVG,
+	
+	/**
+	 * Minimum
+	 */
+	MIN,
+	
+	/**
+	 * Maximum
+	 */
+	MAX
+}
@@ -0,0 +1,170 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.leadware.persistence.tools.api.utils;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import net.leadware.persistence.tools.api.dao.constants.AggregateFunction;
+
+/**
+ * Classe representant un conteneur d'agrégats (fonctions sur des propriétés) et de propriétés de regroupement
+ * @author <a href="mailto:jetune@leadware.net">Jean-Jacques ETUNE NGI (Leadware Enterprise Architect)</a>
+ * @since 18 oct. 2026 - 13:05:12
+ */
+public class AggregationContainer implements Serializable {
+	
+	/**
+	 * ID Genere par Eclipse
+	 */
+	private static final long serialVersionUID = 1L;
+	
+	/**
+	 * Liste des agrégats (dans l'ordre de déclaration)
+	 */
+	private List<Aggregate> aggregates = new ArrayList<Aggregate>();
+	
+	/**
+	 * Liste des propriétés de regroupement (dans l'ordre de déclaration)
+	 */
+	private List<String> groupBy = new ArrayList<String>();
+	
+	/**
+	 * Obtention de l'instance
+	 * @return	Instance de travail
+	 */
+	public static AggregationContainer newInstance() {
+		
+		// On retourne l'instance
+		return new AggregationContainer();
+	}
+	
+	/**
+	 * Methode d'ajout d'un agrégat
+	 * @param function	Fonction d'agrégation
+	 * @param property	Propriete agrégée
+	 * @return	Conteneur d'agrégats
+	 */
+	public AggregationContainer add(AggregateFunction function, String property) {
+		
+		// Si la ppt est nulle
+		if(property == null || property.trim().length() == 0) return this;
+		
+		// Si la fonction est nulle
+		if(function == null) return this;
+		
+		// Ajout
+		aggregates.add(new Aggregate(function, property.trim()));
+		
+		// On retourne le conteneur
+		return this;
+	}
+	
+	/**
+	 * Methode d'ajout d'une propriété de regroupement
+	 * @param property	Propriete de regroupement
+	 * @return	Conteneur d'agrégats
+	 */
+	public AggregationContainer groupBy(String property) {
+		
+		// Si la ppt est nulle
+		if(property == null || property.trim().length() == 0) return this;
+		
+		// Ajout
+		if(!groupBy.contains(property.trim())) groupBy.add(property.trim());
+		
+		// On retourne le conteneur
+		return this;
+	}
+	
+	/**
+	 * Methode d'obtention de la liste des agrégats
+	 * @return Liste des agrégats
+	 */
+	public List<Aggregate> getAggregates() {
+		return Collections.unmodifiableList(aggregates);
+	}
+	
+	/**
+	 * Methode d'obtention de la liste des propriétés de regroupement
+	 * @return Liste des propriétés de regroupement
+	 */
+	public List<String> getGroupBy() {
+		return Collections.unmodifiableList(groupBy);
+	}
+	
+	/**
+	 * Classe representant un agrégat : fonction appliquée à une propriété
+	 * @author <a href="mailto:jetune@leadware.net">Jean-Jacques ETUNE NGI (Leadware Enterprise Architect)</a>
+	 * @since 18 oct. 2026 - 13:06:34
+	 */
+	public static class Aggregate implements Serializable {
+		
+		/**
+		 * ID Genere par Eclipse
+		 */
+		private static final long serialVersionUID = 1L;
+		
+		/**
+		 * Fonction d'agrégation
+		 */
+		private final AggregateFunction function;
+		
+		/**
+		 * Propriété agrégée
+		 */
+		private final String property;
+		
+		/**
+		 * Constructeur avec initialisation des parametres
+		 * @param function	Fonction d'agrégation
+		 * @param property	Propriété agrégée
+		 */
+		public Aggregate(AggregateFunction function, String property) {
+			this.function = function;
+			this.property = property;
+		}
+		
+		/**
+		 * Methode d'obtention de la fonction d'agrégation
+		 * @return Fonction d'agrégation
+		 */
+		public AggregateFunction getFunction() {
+			return function;
+		}
+		
+		/**
+		 * Methode d'obtention de la propriété agrégée
+		 * @return Propriété agrégée
+		 */
+		public String getProperty() {
+			return property;
+		}
+		
+		/**
+		 * Methode d'obtention de l'alias de l'agrégat dans les lignes de résultat (ex: sum(amount))
+		 * @return Alias de l'agrégat
+		 */
+		public String getAlias() {
+			return function.name().toLowerCase() + "(" + property + ")";
+		}
+	}
+}
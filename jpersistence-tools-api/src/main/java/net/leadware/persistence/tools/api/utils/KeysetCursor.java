@@ -0,0 +1,84 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.leadware.persistence.tools.api.utils;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.leadware.persistence.tools.api.dao.constants.OrderType;
+
+/**
+ * Classe representant un curseur de pagination par clés (keyset).
+ * Le curseur est opaque pour l'appelant : il mémorise les clés de tri (l'identifiant en dernier) 
+ * ainsi que leurs valeurs pour le dernier élément de la page, et doit simplement être retransmis 
+ * à la DAO pour obtenir la page suivante
+ * @author <a href="mailto:jetune@leadware.net">Jean-Jacques ETUNE NGI (Leadware Enterprise Architect)</a>
+ * @since 18 oct. 2026 - 10:32:05
+ */
+public class KeysetCursor implements Serializable {
+	
+	/**
+	 * ID Genere par Eclipse
+	 */
+	private static final long serialVersionUID = 1L;
+	
+	/**
+	 * Clés de tri (dans l'ordre de déclaration)
+	 */
+	private final Map<String, OrderType> orders;
+	
+	/**
+	 * Valeurs des clés de tri pour le dernier élément de la page
+	 */
+	private final List<Object> values;
+	
+	/**
+	 * Constructeur avec initialisation des paramètres
+	 * @param orders	Clés de tri (dans l'ordre de déclaration)
+	 * @param values	Valeurs des clés de tri pour le dernier élément de la page
+	 */
+	public KeysetCursor(Map<String, OrderType> orders, List<Object> values) {
+		
+		// Copie des clés de tri
+		this.orders = Collections.unmodifiableMap(new LinkedHashMap<String, OrderType>(orders));
+		
+		// Copie des valeurs
+		this.values = Collections.unmodifiableList(new ArrayList<Object>(values));
+	}
+	
+	/**
+	 * Methode d'obtention des clés de tri
+	 * @return Clés de tri
+	 */
+	public Map<String, OrderType> getOrders() {
+		return orders;
+	}
+	
+	/**
+	 * Methode d'obtention des valeurs des clés de tri
+	 * @return Valeurs des clés de tri
+	 */
+	public List<Object> getValues() {
+		return values;
+	}
+}
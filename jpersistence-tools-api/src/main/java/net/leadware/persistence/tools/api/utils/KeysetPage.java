@@ -0,0 +1,83 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.leadware.persistence.tools.api.utils;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Classe representant une page de résultats obtenue par pagination par clés (keyset)
+ * @param <T>	Type des éléments de la page
+ * @author <a href="mailto:jetune@leadware.net">Jean-Jacques ETUNE NGI (Leadware Enterprise Architect)</a>
+ * @since 18 oct. 2026 - 10:34:47
+ */
+public class KeysetPage<T> implements Serializable {
+	
+	/**
+	 * ID Genere par Eclipse
+	 */
+	private static final long serialVersionUID = 1L;
+	
+	/**
+	 * Eléments de la page
+	 */
+	private final List<T> content;
+	
+	/**
+	 * Curseur de la page suivante (null s'il n'y a pas de page suivante)
+	 */
+	private final KeysetCursor nextCursor;
+	
+	/**
+	 * Constructeur avec initialisation des paramètres
+	 * @param content	Eléments de la page
+	 * @param nextCursor	Curseur de la page suivante (null s'il n'y a pas de page suivante)
+	 */
+	public KeysetPage(List<T> content, KeysetCursor nextCursor) {
+		this.content = Collections.unmodifiableList(content);
+		this.nextCursor = nextCursor;
+	}
+	
+	/**
+	 * Methode d'obtention des éléments de la page
+	 * @return Eléments de la page
+	 */
+	public List<T> getContent() {
+		return content;
+	}
+	
+	/**
+	 * Methode d'obtention du curseur de la page suivante
+	 * @return Curseur de la page suivante (null s'il n'y a pas de page suivante)
+	 */
+	public KeysetCursor getNextCursor() {
+		return nextCursor;
+	}
+	
+	/**
+	 * Methode de test de l'existence d'une page suivante
+	 * @return	Existence d'une page suivante
+	 */
+	public boolean hasNext() {
+		
+		// On retourne l'état
+		return nextCursor != null;
+	}
+}
@@ -20,7 +20,7 @@ package net.leadware.persistence.tools.api.utils;
 
 import java.io.Serializable;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import net.leadware.persistence.tools.api.dao.constants.OrderType;
@@ -39,9 +39,9 @@ public class OrderContainer implements Serializable {
 	private static final long serialVersionUID = 1L;
 	
 	/**
-	 * Liste des ordre de tri
+	 * Liste des ordre de tri (dans l'ordre de déclaration)
 	 */
-	private Map<String, OrderType> orders = new HashMap<String, OrderType>();
+	private Map<String, OrderType> orders = new LinkedHashMap<String, OrderType>();
 	
 	/**
 	 * Obtention de l'instance
@@ -0,0 +1,113 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.leadware.persistence.tools.api.utils;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Classe representant une page de résultats accompagnée du nombre total d'éléments
+ * @param <T>	Type des éléments de la page
+ * @author <a href="mailto:jetune@leadware.net">Jean-Jacques ETUNE NGI (Leadware Enterprise Architect)</a>
+ * @since 18 oct. 2026 - 12:08:51
+ */
+public class Page<T> implements Serializable {
+	
+	/**
+	 * ID Genere par Eclipse
+	 */
+	private static final long serialVersionUID = 1L;
+	
+	/**
+	 * Eléments de la page
+	 */
+	private final List<T> content;
+	
+	/**
+	 * Nombre total d'éléments
+	 */
+	private final long totalCount;
+	
+	/**
+	 * Index du premier élément de la page
+	 */
+	private final int firstResult;
+	
+	/**
+	 * Taille maximale de la page
+	 */
+	private final int maxResult;
+	
+	/**
+	 * Constructeur avec initialisation des paramètres
+	 * @param content	Eléments de la page
+	 * @param totalCount	Nombre total d'éléments
+	 * @param firstResult	Index du premier élément de la page
+	 * @param maxResult	Taille maximale de la page
+	 */
+	public Page(List<T> content, long totalCount, int firstResult, int maxResult) {
+		this.content = Collections.unmodifiableList(content);
+		this.totalCount = totalCount;
+		this.firstResult = firstResult;
+		this.maxResult = maxResult;
+	}
+	
+	/**
+	 * Methode d'obtention des éléments de la page
+	 * @return Eléments de la page
+	 */
+	public List<T> getContent() {
+		return content;
+	}
+	
+	/**
+	 * Methode d'obtention du nombre total d'éléments
+	 * @return Nombre total d'éléments
+	 */
+	public long getTotalCount() {
+		return totalCount;
+	}
+	
+	/**
+	 * Methode d'obtention de l'index du premier élément de la page
+	 * @return Index du premier élément de la page
+	 */
+	public int getFirstResult() {
+		return firstResult;
+	}
+	
+	/**
+	 * Methode d'obtention de la taille maximale de la page
+	 * @return Taille maximale de la page
+	 */
+	public int getMaxResult() {
+		return maxResult;
+	}
+	
+	/**
+	 * Methode de test de l'existence d'une page suivante
+	 * @return	Existence d'une page suivante
+	 */
+	public boolean hasNext() {
+		
+		// On retourne l'état
+		return firstResult + content.size() < totalCount;
+	}
+}
@@ -19,10 +19,22 @@
 package net.leadware.persistence.tools.api.utils;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
+import javax.persistence.EntityGraph;
+import javax.persistence.EntityManager;
+import javax.persistence.Subgraph;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.ManagedType;
+import javax.persistence.metamodel.Metamodel;
+import javax.persistence.metamodel.SingularAttribute;
+import javax.persistence.metamodel.Type;
+
 /**
  * Classe representant un conteneur de proprietes 
  * @author <a href="mailto:jetune@leadware.net">Jean-Jacques ETUNE NGI (Leadware Enterprise Architect)</a>
@@ -64,6 +76,125 @@ public class PropertyContainer implements Serializable {
 		return this;
 	}
 	
+	/**
+	 * Methode d'ajout d'une collection de proprietes
+	 * @param properties	Proprietes a ajouter
+	 * @return	Conteneur de proprietes
+	 */
+	public PropertyContainer addAll(Collection<String> properties) {
+		
+		// Si la collection est nulle
+		if(properties == null) return this;
+		
+		// Ajout de chaque propriete
+		for (String property : properties) add(property);
+		
+		// On retourne le conteneur
+		return this;
+	}
+	
+	/**
+	 * Methode de construction du graphe d'entite JPA 2.1 correspondant aux proprietes du conteneur
+	 * (les chemins hierarchiques "a.b.c" donnent des sous-graphes imbriques). Le graphe s'applique
+	 * comme indication "javax.persistence.loadgraph" ou "javax.persistence.fetchgraph"
+	 * @param <T>	Type de l'entite
+	 * @param entityManager	Gestionnaire d'entites
+	 * @param entityClass	Classe de l'entite racine
+	 * @return	Graphe d'entite
+	 */
+	public <T> EntityGraph<T> toEntityGraph(EntityManager entityManager, Class<T> entityClass) {
+		
+		// Graphe d'entite
+		EntityGraph<T> entityGraph = entityManager.createEntityGraph(entityClass);
+		
+		// Sous-graphes deja crees, indexes par chemin
+		Map<String, Subgraph<Object>> subgraphs = new HashMap<String, Subgraph<Object>>();
+		
+		// Parcours du conteneur
+		for (String property : properties) {
+			
+			// On split
+			String[] hierarchicalPaths = property.trim().split("\\.");
+			
+			// Sous-graphe parent (null pour la racine)
+			Subgraph<Object> parent = null;
+			
+			// Chemin courant
+			String currentPath = null;
+			
+			// Parcours des chemins intermediaires
+			for (int index = 0; index < hierarchicalPaths.length - 1; index++) {
+				
+				// Chemin du sous-graphe
+				currentPath = currentPath == null ? hierarchicalPaths[index].trim() : currentPath + "." + hierarchicalPaths[index].trim();
+				
+				// Sous-graphe existant
+				Subgraph<Object> subgraph = subgraphs.get(currentPath);
+				
+				// S'il n'existe pas encore
+				if(subgraph == null) {
+					
+					// Creation du sous-graphe
+					subgraph = parent == null ? entityGraph.<Object>addSubgraph(hierarchicalPaths[index].trim()) : parent.<Object>addSubgraph(hierarchicalPaths[index].trim());
+					
+					// Enregistrement
+					subgraphs.put(currentPath, subgraph);
+				}
+				
+				// Passage au niveau suivant
+				parent = subgraph;
+			}
+			
+			// Dernier attribut du chemin
+			String attribute = hierarchicalPaths[hierarchicalPaths.length - 1].trim();
+			
+			// Ajout de l'attribut au graphe
+			if(parent == null) entityGraph.addAttributeNodes(attribute);
+			else parent.addAttributeNodes(attribute);
+		}
+		
+		// On retourne le graphe
+		return entityGraph;
+	}
+	
+	/**
+	 * Methode de verification qu'un chemin de propriete traverse une collection (association multiple ou collection d'elements)
+	 * @param metamodel	Metamodele JPA
+	 * @param entityClass	Classe de l'entite racine
+	 * @param property	Chemin de propriete ("a.b.c")
+	 * @return	Etat de traversee d'une collection
+	 */
+	public static boolean isCollectionPath(Metamodel metamodel, Class<?> entityClass, String property) {
+		
+		// Si la propriete est vide
+		if(property == null || property.trim().length() == 0) return false;
+		
+		// Type courant
+		ManagedType<?> managedType = metamodel.managedType(entityClass);
+		
+		// Parcours du chemin
+		for (String path : property.trim().split("\\.")) {
+			
+			// Attribut courant
+			Attribute<?, ?> attribute = managedType.getAttribute(path.trim());
+			
+			// S'il s'agit d'une collection
+			if(attribute.isCollection()) return true;
+			
+			// Type de l'attribut
+			Type<?> type = ((SingularAttribute<?, ?>) attribute).getType();
+			
+			// S'il ne s'agit pas d'un type gere, le chemin s'arrete
+			if(!(type instanceof ManagedType)) return false;
+			
+			// Passage au niveau suivant
+			managedType = (ManagedType<?>) type;
+		}
+		
+		// Aucune collection traversee
+		return false;
+	}
+	
 	/**
 	 * Methode d'obtention de l'Ensemble des proprietes
 	 * @return Ensemble des proprietes
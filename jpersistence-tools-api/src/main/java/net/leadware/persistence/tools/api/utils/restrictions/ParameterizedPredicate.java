@@ -0,0 +1,54 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.leadware.persistence.tools.api.utils.restrictions;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.ParameterExpression;
+import javax.persistence.criteria.Root;
+
+/**
+ * Classe représentant un predicat de selection dont la valeur peut etre portée par un paramètre de requete.
+ * Deux prédicats de meme forme (type et propriété) produisent alors la meme requete, ce qui permet d'en 
+ * mettre en cache la version compilée
+ * @author <a href="mailto:jetune@leadware.net">Jean-Jacques ETUNE NGI (Leadware Enterprise Architect)</a>
+ * @since 18 oct. 2026 - 11:20:36
+ */
+public interface ParameterizedPredicate extends Predicate {
+	
+	/**
+	 * Methode d'obtention de la forme du predicat (type et propriété, indépendamment de la valeur)
+	 * @return	Forme du prédicat (null si le prédicat ne peut pas etre mis en cache)
+	 */
+	public String getShape();
+	
+	/**
+	 * Methode d'obtention de la valeur à lier au paramètre du prédicat
+	 * @return	Valeur du paramètre (null si le prédicat n'est pas paramétré)
+	 */
+	public Object getParameterValue();
+	
+	/**
+	 * Methode de construction d'un Predicat JPA 2 dont la valeur est portée par un paramètre
+	 * @param criteriaBuilder	Constructeur de critere
+	 * @param root	Racine de la requete par critere
+	 * @param parameter	Paramètre portant la valeur (de type compatible avec {@link #getParameterValue()})
+	 * @return	Predicat JPA 2
+	 */
+	public javax.persistence.criteria.Predicate generateJPAPredicate(CriteriaBuilder criteriaBuilder, Root<?> root, ParameterExpression<?> parameter);
+}
@@ -18,10 +18,12 @@
  */
 package net.leadware.persistence.tools.api.utils.restrictions.impl;
 
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.ParameterExpression;
 import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Root;
 
-import net.leadware.persistence.tools.api.utils.restrictions.Predicate;
+import net.leadware.persistence.tools.api.utils.restrictions.ParameterizedPredicate;
 
 
 /**
@@ -29,13 +31,46 @@ import net.leadware.persistence.tools.api.utils.restrictions.Predicate;
  * @author <a href="mailto:jetune@leadware.net">Jean-Jacques ETUNE NGI (Enterprise Architect)</a>
  * @since 1 juin 2015 23:17:02
  */
-public abstract class AbstractPredicate implements Predicate {
+public abstract class AbstractPredicate implements ParameterizedPredicate {
 	
 	/**
 	 * ID Genere par Eclipse
 	 */
 	private static final long serialVersionUID = 1L;
 	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.api.utils.restrictions.ParameterizedPredicate#getShape()
+	 */
+	@Override
+	public String getShape() {
+		
+		// Forme inconnue : le prédicat n'est pas mis en cache
+		return null;
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.api.utils.restrictions.ParameterizedPredicate#getParameterValue()
+	 */
+	@Override
+	public Object getParameterValue() {
+		
+		// Pas de paramètre par défaut
+		return null;
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.api.utils.restrictions.ParameterizedPredicate#generateJPAPredicate(javax.persistence.criteria.CriteriaBuilder, javax.persistence.criteria.Root, javax.persistence.criteria.ParameterExpression)
+	 */
+	@Override
+	public javax.persistence.criteria.Predicate generateJPAPredicate(CriteriaBuilder criteriaBuilder, Root<?> root, ParameterExpression<?> parameter) {
+		
+		// Pas de paramètre par défaut : prédicat classique
+		return generateJPAPredicate(criteriaBuilder, root);
+	}
+	
 	/**
 	 * Méthode de construction d'un chemin de propriété à partir de la racine
 	 * @param <Y>	Paramètre de type du chemin final
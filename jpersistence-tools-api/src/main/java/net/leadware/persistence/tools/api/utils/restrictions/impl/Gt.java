@@ -19,6 +19,8 @@
 package net.leadware.persistence.tools.api.utils.restrictions.impl;
 
 import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.ParameterExpression;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
@@ -64,4 +66,38 @@ public class Gt<Y extends Comparable<? super Y>> extends AbstractPredicate {
 		// On retourne le predicat
 		return criteriaBuilder.greaterThan(this.<Y>buildPropertyPath(root, property), value);
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.api.utils.restrictions.ParameterizedPredicate#getShape()
+	 */
+	@Override
+	public String getShape() {
+		
+		// On retourne la forme
+		return getClass().getName() + "(" + property + ")";
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.api.utils.restrictions.ParameterizedPredicate#getParameterValue()
+	 */
+	@Override
+	public Object getParameterValue() {
+		
+		// On retourne la valeur
+		return value;
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.api.utils.restrictions.ParameterizedPredicate#generateJPAPredicate(javax.persistence.criteria.CriteriaBuilder, javax.persistence.criteria.Root, javax.persistence.criteria.ParameterExpression)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public Predicate generateJPAPredicate(CriteriaBuilder criteriaBuilder, Root<?> root, ParameterExpression<?> parameter) {
+		
+		// On retourne le predicat
+		return criteriaBuilder.greaterThan(this.<Y>buildPropertyPath(root, property), (Expression<Y>) parameter);
+	}
 }
@@ -57,4 +57,15 @@ public class IsFalse extends AbstractPredicate {
 		// On retourne le predicat
 		return criteriaBuilder.isFalse(this.<Boolean>buildPropertyPath(root, property));
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.api.utils.restrictions.ParameterizedPredicate#getShape()
+	 */
+	@Override
+	public String getShape() {
+		
+		// On retourne la forme
+		return getClass().getName() + "(" + property + ")";
+	}
 }
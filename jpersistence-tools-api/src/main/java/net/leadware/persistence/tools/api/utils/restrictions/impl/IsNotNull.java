@@ -57,4 +57,15 @@ public class IsNotNull extends AbstractPredicate {
 		// On retourne le predicat
 		return criteriaBuilder.isNotNull(this.<Boolean>buildPropertyPath(root, property));
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.api.utils.restrictions.ParameterizedPredicate#getShape()
+	 */
+	@Override
+	public String getShape() {
+		
+		// On retourne la forme
+		return getClass().getName() + "(" + property + ")";
+	}
 }
@@ -25,6 +25,8 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import javax.persistence.FlushModeType;
+
 import net.leadware.persistence.tools.api.dao.constants.DAOMode;
 import net.leadware.persistence.tools.api.dao.constants.DAOValidatorEvaluationTime;
 import net.leadware.persistence.tools.api.dao.constants.ValidatorExpressionType;
@@ -79,4 +81,11 @@ public @interface NotEmptyDAOValidator {
 	 * @return	Instants d'evaluation de l'annotation
 	 */
 	public DAOValidatorEvaluationTime[] evaluationTime() default DAOValidatorEvaluationTime.PRE_CONDITION;
+	
+	/**
+	 * Methode permettant d'obtenir le mode de vidage du contexte de persistance a l'execution de l'expression
+	 * (COMMIT evite de vider un contexte volumineux avant chaque validation)
+	 * @return	Mode de vidage de l'expression
+	 */
+	public FlushModeType flushMode() default FlushModeType.AUTO;
 }
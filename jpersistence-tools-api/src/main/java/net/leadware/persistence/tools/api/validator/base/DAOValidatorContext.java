@@ -0,0 +1,84 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.leadware.persistence.tools.api.validator.base;
+
+import javax.persistence.EntityManager;
+
+import net.leadware.persistence.tools.api.dao.constants.DAOMode;
+import net.leadware.persistence.tools.api.dao.constants.DAOValidatorEvaluationTime;
+
+/**
+ * Contexte immuable d'un appel de validation DAO : gestionnaire d'entites, mode DAO et instant d'evaluation du systeme.
+ * Il porte tout l'etat propre a l'appel, de sorte qu'une regle preparee ({@link IReusableDAOValidator}) puisse etre partagee
+ * @author <a href="mailto:jetune@leadware.net">Jean-Jacques ETUNE NGI (Leadware Enterprise Architect)</a>
+ * @since 18 oct. 2026 - 15:12:40
+ */
+public final class DAOValidatorContext {
+	
+	/**
+	 * Le gestionnaire d'entites
+	 */
+	private final EntityManager entityManager;
+	
+	/**
+	 * Mode DAO du systeme
+	 */
+	private final DAOMode systemDAOMode;
+	
+	/**
+	 * Temps d'evaluation systeme
+	 */
+	private final DAOValidatorEvaluationTime systemEvaluationTime;
+	
+	/**
+	 * Constructeur avec initialisation des parametres
+	 * @param entityManager	Gestionnaire d'entites
+	 * @param systemDAOMode	Mode DAO du systeme
+	 * @param systemEvaluationTime	Instant d'evaluation du systeme
+	 */
+	public DAOValidatorContext(EntityManager entityManager, DAOMode systemDAOMode, DAOValidatorEvaluationTime systemEvaluationTime) {
+		this.entityManager = entityManager;
+		this.systemDAOMode = systemDAOMode;
+		this.systemEvaluationTime = systemEvaluationTime;
+	}
+
+	/**
+	 * Methode d'obtention du gestionnaire d'entites
+	 * @return Gestionnaire d'entites
+	 */
+	public EntityManager getEntityManager() {
+		return entityManager;
+	}
+
+	/**
+	 * Methode d'obtention du Mode DAO du systeme
+	 * @return Mode DAO du systeme
+	 */
+	public DAOMode getSystemDAOMode() {
+		return systemDAOMode;
+	}
+
+	/**
+	 * Methode d'obtention du Temps d'evaluation systeme
+	 * @return Temps d'evaluation systeme
+	 */
+	public DAOValidatorEvaluationTime getSystemEvaluationTime() {
+		return systemEvaluationTime;
+	}
+}
@@ -0,0 +1,45 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.leadware.persistence.tools.api.validator.base;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * Interface des logiques de validation reutilisables : l'etat derive de l'annotation est prepare une seule fois 
+ * (puis n'est plus modifie) et l'etat propre a chaque appel est transmis par un {@link DAOValidatorContext}. 
+ * Une instance preparee peut ainsi etre mise en cache et partagee entre threads
+ * @param <A>	Type de l'annotation
+ * @author <a href="mailto:jetune@leadware.net">Jean-Jacques ETUNE NGI (Leadware Enterprise Architect)</a>
+ * @since 18 oct. 2026 - 15:12:40
+ */
+public interface IReusableDAOValidator<A extends Annotation> extends IDAOValidator<A> {
+	
+	/**
+	 * Methode de preparation de la partie immuable de la regle (appelee une seule fois par annotation)
+	 * @param annotation	Annotation de la regle
+	 */
+	public void prepare(A annotation);
+	
+	/**
+	 * Methode d'execution de la validation sur une entite donnee, dans un contexte d'appel donne
+	 * @param entity	Entite a valider
+	 * @param context	Contexte de l'appel
+	 */
+	public void processValidation(Object entity, DAOValidatorContext context);
+}
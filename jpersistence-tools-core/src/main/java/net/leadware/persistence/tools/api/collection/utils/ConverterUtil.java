@@ -202,4 +202,49 @@ public class ConverterUtil {
 		// On retourne le List
 		return list;
 	}
+
+	/**
+	 * Méthode de découpage d'une collection en lots de taille maximale donnée (en conservant l'ordre d'itération)
+	 * @param <T>	Parametre de type de contenu
+	 * @param collection	Collection a decouper
+	 * @param chunkSize	Taille maximale de chaque lot
+	 * @return	Liste des lots
+	 */
+	public static <T> List<List<T>> partitionCollection(Collection<T> collection, int chunkSize) {
+
+		// Liste des lots
+		List<List<T>> chunks = new ArrayList<List<T>>();
+
+		// Si la collection est vide
+		if(collection == null || collection.isEmpty()) return chunks;
+
+		// Si la taille des lots est invalide
+		if(chunkSize <= 0) chunkSize = collection.size();
+
+		// Lot en cours
+		List<T> chunk = new ArrayList<T>(Math.min(chunkSize, collection.size()));
+
+		// Parcours de la collection
+		for (T object : collection) {
+
+			// Ajout dans le lot en cours
+			chunk.add(object);
+
+			// Si le lot est plein
+			if(chunk.size() == chunkSize) {
+
+				// On enregistre le lot
+				chunks.add(chunk);
+
+				// Nouveau lot
+				chunk = new ArrayList<T>(chunkSize);
+			}
+		}
+
+		// Si le dernier lot n'est pas vide
+		if(!chunk.isEmpty()) chunks.add(chunk);
+
+		// On retourne la liste des lots
+		return chunks;
+	}
 }
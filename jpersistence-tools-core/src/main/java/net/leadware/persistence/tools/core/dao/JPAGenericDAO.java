@@ -18,14 +18,21 @@
  */
 package net.leadware.persistence.tools.core.dao;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import javax.persistence.EntityManager;
+import javax.persistence.Tuple;
 import javax.persistence.criteria.CriteriaQuery;
 
 import net.leadware.persistence.tools.api.dao.constants.OrderType;
+import net.leadware.persistence.tools.api.utils.AggregationContainer;
+import net.leadware.persistence.tools.api.utils.KeysetCursor;
+import net.leadware.persistence.tools.api.utils.KeysetPage;
+import net.leadware.persistence.tools.api.utils.Page;
 import net.leadware.persistence.tools.api.utils.restrictions.Predicate;
 
 /**
@@ -82,7 +89,33 @@ public interface JPAGenericDAO<T extends Object> {
 	 * @param postValidateReferentialConstraintOnDelete Etat de postvalidation des contraintes referentielles en mode DELETE
 	 */
 	public void setPostValidateReferentialConstraintOnDelete(boolean postValidateReferentialConstraintOnDelete);
+
+	/**
+	 * Méthode de mise à jour de la taille par défaut des lots de traitement des opérations de masse
+	 * @param batchSize Taille par défaut des lots de traitement des opérations de masse
+	 */
+	public void setBatchSize(int batchSize);
+	
+	/**
+	 * Méthode de mise à jour de la taille du cache des requetes compilées (le cache est désactivé si elle est {@code <= 0}).
+	 * Les requetes de filtre, de comptage et de recherche par clé sont mises en cache par forme (prédicats, 
+	 * ordres de tri et propriétés chargées), les valeurs des prédicats étant portées par des paramètres
+	 * @param queryCacheSize Taille du cache des requetes compilées
+	 */
+	public void setQueryCacheSize(int queryCacheSize);
+	
+	/**
+	 * Méthode d'obtention du nombre de succès du cache des requetes compilées
+	 * @return	Nombre de succès
+	 */
+	public long getQueryCacheHitCount();
 	
+	/**
+	 * Méthode d'obtention du nombre d'échecs du cache des requetes compilées
+	 * @return	Nombre d'échecs
+	 */
+	public long getQueryCacheMissCount();
+
 	/**
 	 * Methode generique d'enregistrement d'une entite JPA annotee
 	 * @param entity	Entite a enregistrer
@@ -99,7 +132,28 @@ public interface JPAGenericDAO<T extends Object> {
 	 * @return	Entite enregistree
 	 */
 	public T save(T entity, boolean validateIntegrityConstraint, boolean preValidateReferentialConstraint, boolean postValidateReferentialConstraint);
-	
+
+	/**
+	 * Methode generique d'enregistrement par lots d'une collection d'entites JPA annotees.
+	 * Le contexte de persistance est synchronise puis vide a la fin de chaque lot : les entites
+	 * retournees (ainsi que toute entite precedemment chargee dans la transaction) sont donc detachees
+	 * @param entities	Entites a enregistrer
+	 * @param batchSize	Taille des lots (la taille par defaut de la DAO est utilisee si elle est {@code <= 0})
+	 * @return	Liste des entites enregistrees
+	 */
+	public List<T> saveAll(Collection<T> entities, int batchSize);
+
+	/**
+	 * Methode generique d'enregistrement par lots d'une collection d'entites JPA annotees
+	 * @param entities	Entites a enregistrer
+	 * @param batchSize	Taille des lots (la taille par defaut de la DAO est utilisee si elle est {@code <= 0})
+	 * @param validateIntegrityConstraint Etat de validation des contraintes d'integrites
+	 * @param preValidateReferentialConstraint Etat de pré-validation des contraintes référentielles
+	 * @param postValidateReferentialConstraint Etat de post-validation des contraintes référentielles
+	 * @return	Liste des entites enregistrees
+	 */
+	public List<T> saveAll(Collection<T> entities, int batchSize, boolean validateIntegrityConstraint, boolean preValidateReferentialConstraint, boolean postValidateReferentialConstraint);
+
 	/**
 	 * Methode generique de mise a jour d'une entite JPA annotee
 	 * @param id Identifiant de l'entite
@@ -118,7 +172,48 @@ public interface JPAGenericDAO<T extends Object> {
 	 * @return	Entite mise a jour
 	 */
 	public T update(Object id, T entity, boolean validateIntegrityConstraint, boolean preValidateReferentialConstraint, boolean postValidateReferentialConstraint);
-	
+
+	/**
+	 * Methode generique de mise a jour par lots d'entites JPA annotees.
+	 * L'existence des entites de chaque lot est verifiee par une unique requete IN, puis le contexte
+	 * de persistance est synchronise a la fin de chaque lot et les entites du lot en sont detachees : les entites retournees
+	 * sont donc detachees (les autres entites du contexte restent managees)
+	 * @param entities	Map des entites a mettre a jour, indexees par leur identifiant
+	 * @return	Liste des entites mises a jour (dans l'ordre d'iteration de la Map)
+	 */
+	public List<T> updateAll(Map<Object, T> entities);
+
+	/**
+	 * Methode generique de mise a jour par lots d'entites JPA annotees
+	 * @param entities	Map des entites a mettre a jour, indexees par leur identifiant
+	 * @param batchSize	Taille des lots (la taille par defaut de la DAO est utilisee si elle est {@code <= 0})
+	 * @param validateIntegrityConstraint Etat de validation des contraintes d'integrites
+	 * @param preValidateReferentialConstraint Etat de pré-validation des contraintes référentielles
+	 * @param postValidateReferentialConstraint Etat de post-validation des contraintes référentielles
+	 * @return	Liste des entites mises a jour (dans l'ordre d'iteration de la Map)
+	 */
+	public List<T> updateAll(Map<Object, T> entities, int batchSize, boolean validateIntegrityConstraint, boolean preValidateReferentialConstraint, boolean postValidateReferentialConstraint);
+
+	/**
+	 * Methode generique de mise a jour ensembliste (CriteriaUpdate) des entites verifiant la liste de predicats.
+	 * La mise a jour ne passe pas par le contexte de persistance ; la version des entites (si elles en ont une) est incrementee
+	 * @param predicates	Liste de predicats de selection (toutes les entites si elle est vide)
+	 * @param assignments	Map des nouvelles valeurs, indexees par nom de propriete directe de l'entite (les chemins pointes sont rejetes)
+	 * @return	Nombre d'entités mises à jour
+	 */
+	public int updateWhere(List<Predicate> predicates, Map<String, Object> assignments);
+
+	/**
+	 * Methode generique de mise a jour ensembliste (CriteriaUpdate) des entites verifiant la liste de predicats
+	 * @param predicates	Liste de predicats de selection (toutes les entites si elle est vide)
+	 * @param assignments	Map des nouvelles valeurs, indexees par nom de propriete
+	 * @param preValidateReferentialConstraint Etat de pré-validation des contraintes référentielles (mode UPDATE) sur
+	 * 		les entites concernees, chargees par lots et auxquelles les nouvelles valeurs sont appliquees hors contexte
+	 * 		(les modifications en attente sont synchronisees au prealable ; seules les entites chargees sont detachees)
+	 * @return	Nombre d'entités mises à jour
+	 */
+	public int updateWhere(List<Predicate> predicates, Map<String, Object> assignments, boolean preValidateReferentialConstraint);
+
 	/**
 	 * Methode generique de suppression d'une entite JPA annotee
 	 * @param entityID	Identifiant de l'entité à supprimer
@@ -132,9 +227,48 @@ public interface JPAGenericDAO<T extends Object> {
 	 * @param postValidateReferentialConstraint Etat de post-validation des contraintes référentielles
 	 */
 	public void delete(Object entityID, boolean preValidateReferentialConstraint, boolean postValidateReferentialConstraint);
-	
+
+	/**
+	 * Methode generique de suppression ensembliste (CriteriaDelete) d'entites JPA annotees par leurs identifiants.
+	 * La suppression ne passe pas par le contexte de persistance : les cascades JPA et le controle de version
+	 * ne sont pas appliques. Les entites ne sont chargees (par lots) que si des validateurs DELETE s'appliquent
+	 * @param entityIDs	Identifiants des entités à supprimer
+	 * @return	Nombre d'entités supprimées
+	 */
+	public int deleteAll(Collection<?> entityIDs);
+
+	/**
+	 * Methode generique de suppression ensembliste (CriteriaDelete) d'entites JPA annotees par leurs identifiants
+	 * @param entityIDs	Identifiants des entités à supprimer
+	 * @param preValidateReferentialConstraint Etat de pré-validation des contraintes référentielles
+	 * @param postValidateReferentialConstraint Etat de post-validation des contraintes référentielles
+	 * @return	Nombre d'entités supprimées
+	 */
+	public int deleteAll(Collection<?> entityIDs, boolean preValidateReferentialConstraint, boolean postValidateReferentialConstraint);
+
+	/**
+	 * Methode generique de suppression ensembliste (CriteriaDelete) des entites verifiant la liste de predicats.
+	 * La suppression ne passe pas par le contexte de persistance : les cascades JPA et le controle de version
+	 * ne sont pas appliques. Les entites ne sont chargees (par lots, ainsi que leurs ID) que si des validateurs DELETE s'appliquent ;
+	 * seules les entites chargees sont ensuite detachees du contexte de persistance
+	 * @param predicates	Liste de predicats de selection (toutes les entites si elle est vide)
+	 * @return	Nombre d'entités supprimées
+	 */
+	public int deleteWhere(List<Predicate> predicates);
+
 	/**
-	 * Methode de nettoyage de la table de l'entité
+	 * Methode generique de suppression ensembliste (CriteriaDelete) des entites verifiant la liste de predicats
+	 * @param predicates	Liste de predicats de selection (toutes les entites si elle est vide)
+	 * @param preValidateReferentialConstraint Etat de pré-validation des contraintes référentielles
+	 * @param postValidateReferentialConstraint Etat de post-validation des contraintes référentielles
+	 * @return	Nombre d'entités supprimées
+	 */
+	public int deleteWhere(List<Predicate> predicates, boolean preValidateReferentialConstraint, boolean postValidateReferentialConstraint);
+
+	/**
+	 * Methode de nettoyage de la table de l'entité (suppression ensembliste, sans validation).
+	 * La suppression ne passe pas par le contexte de persistance : les cascades JPA (CascadeType.REMOVE) et la suppression
+	 * des orphelins (orphanRemoval) ne sont pas appliquees ; les entites dependantes doivent etre supprimees au prealable
 	 */
 	public void clean();
 	
@@ -146,7 +280,36 @@ public interface JPAGenericDAO<T extends Object> {
 	public long count(List<Predicate> predicates);
 	
 	/**
-	 * Methode de filtre des entites d'une classe donnee en fonction des criteres de filtres donnees
+	 * Methode de comptage simultané de plusieurs ensembles de prédicats, en une seule requete (et un seul parcours de la table) : 
+	 * chaque ensemble est compilé en une colonne SUM(CASE WHEN ... THEN 1 ELSE 0 END)
+	 * @param predicateSets	Liste des ensembles de prédicats (un ensemble vide ou null compte toutes les entités)
+	 * @return	Nombres d'entités vérifiant chaque ensemble (dans l'ordre des ensembles)
+	 */
+	public long[] countAll(List<List<Predicate>> predicateSets);
+	
+	/**
+	 * Methode de test de l'existence d'au moins une entité vérifiant les prédicats, sans comptage : 
+	 * la requete sélectionne une constante et s'arrete à la première ligne
+	 * @param predicates	Liste des prédicats
+	 * @return	Existence d'une entité
+	 */
+	public boolean exists(List<Predicate> predicates);
+	
+	/**
+	 * Methode de test de l'existence d'une entité par son identifiant. Si l'entité est déjà managée par le contexte 
+	 * de persistance (voir findManagedEntity de l'implémentation) ou présente dans le cache de second niveau, elle est 
+	 * résolue sans requete SQL ; sinon une requete d'existence limitée à une ligne est exécutée
+	 * @param entityID	Identifiant de l'entité
+	 * @return	Existence de l'entité
+	 */
+	public boolean existsById(Object entityID);
+	
+	/**
+	 * Methode de filtre des entites d'une classe donnee en fonction des criteres de filtres donnees.
+	 * Les associations simples demandees sont chargees par jointure, sans DISTINCT (la pagination reste appliquee par la base). 
+	 * Si des collections sont demandees sur une page, la pagination se fait en deux phases : les ID de la page sont d'abord 
+	 * selectionnes, puis les entites sont chargees avec toutes leurs proprietes par une requete IN sur ces ID (ordre conserve). 
+	 * Sans pagination, chaque collection est chargee par sa propre requete secondaire IN sur les ID des entites trouvees
 	 * @param predicates	Liste des prédicats
 	 * @param orders	Map des Ordre de tri
 	 * @param properties	Ensemble de propriétés à charger
@@ -156,6 +319,77 @@ public interface JPAGenericDAO<T extends Object> {
 	 */
 	public List<T> filter(List<Predicate> predicates, Map<String, OrderType> orders, Set<String> properties, int firstResult, int maxResult);
 	
+	/**
+	 * Methode de filtre ne sélectionnant que les colonnes demandées (projection).
+	 * Les lignes ne sont pas chargées sous forme d'entités managées : le contexte de persistance n'a donc 
+	 * ni entité à synchroniser ni état à comparer
+	 * @param <R>	Type des lignes
+	 * @param predicates	Liste des prédicats
+	 * @param orders	Map des Ordre de tri
+	 * @param columns	Chemins des colonnes à sélectionner (ex: code, region.designation). Les associations intermédiaires 
+	 * d'un chemin sont parcourues par jointure externe : une ligne dont l'association est nulle est retournée avec une colonne nulle
+	 * @param resultClass	Classe des lignes : {@link javax.persistence.Tuple} (éléments nommés par leur chemin), 
+	 * Object[] ou classe disposant d'un constructeur prenant les colonnes dans l'ordre
+	 * @param firstResult	Index du premier resultat
+	 * @param maxResult	Nombre maximum de resultat
+	 * @return	Liste des lignes trouvées
+	 */
+	public <R> List<R> filterProjection(List<Predicate> predicates, Map<String, OrderType> orders, List<String> columns, Class<R> resultClass, int firstResult, int maxResult);
+	
+	/**
+	 * Methode de calcul d'agrégats par la base de données, éventuellement par groupe.
+	 * Chaque ligne retournée contient les propriétés de regroupement (nommées par leur chemin) puis les agrégats 
+	 * (nommés par leur alias, ex: sum(amount)), les lignes étant triées suivant les propriétés de regroupement
+	 * @param predicates	Liste des prédicats
+	 * @param aggregation	Agrégats à calculer et propriétés de regroupement
+	 * @return	Lignes d'agrégats
+	 */
+	public List<Tuple> aggregate(List<Predicate> predicates, AggregationContainer aggregation);
+	
+	/**
+	 * Methode d'obtention d'une page de résultats et du nombre total d'éléments.
+	 * Le comptage n'est exécuté que si la page est pleine (ou vide au-delà du premier élément) : 
+	 * dans le cas contraire le total se déduit de la position et de la taille de la page. 
+	 * Les deux requetes partagent la meme forme de prédicats (et donc le cache des requetes compilées)
+	 * @param predicates	Liste des prédicats
+	 * @param orders	Map des Ordre de tri
+	 * @param properties	Ensemble de propriétés (associations simples) à charger
+	 * @param firstResult	Index du premier resultat
+	 * @param maxResult	Nombre maximum de resultat (pas de pagination si {@code <= 0})
+	 * @return	Page des objets trouvés et nombre total d'éléments
+	 */
+	public Page<T> page(List<Predicate> predicates, Map<String, OrderType> orders, Set<String> properties, int firstResult, int maxResult);
+	
+	/**
+	 * Methode de filtre paginé par clés (keyset) : au lieu d'un décalage (OFFSET), la page suivante est obtenue
+	 * par une condition (k1, k2, ..., id) &gt; (v1, v2, ..., vid) sur les valeurs du dernier élément de la page précédente,
+	 * ce qui rend le coût d'une page indépendant de sa profondeur. Les clés de tri sont prises dans leur ordre de 
+	 * déclaration et l'identifiant est toujours ajouté en dernier pour départager les ex-aequo
+	 * (les valeurs nulles sont considérées comme les plus petites)
+	 * @param predicates	Liste des prédicats
+	 * @param orders	Map des Ordre de tri (doit etre la meme pour toutes les pages)
+	 * @param properties	Ensemble de propriétés (associations simples) à charger
+	 * @param cursor	Curseur retourné avec la page précédente (null pour la première page)
+	 * @param maxResult	Taille de la page
+	 * @return	Page des objets trouvés, avec le curseur de la page suivante
+	 */
+	public KeysetPage<T> filter(List<Predicate> predicates, Map<String, OrderType> orders, Set<String> properties, KeysetCursor cursor, int maxResult);
+	
+	/**
+	 * Methode de parcours en flux des entites verifiant les criteres de filtre donnes.
+	 * Le resultat est charge paresseusement par lots de taille fetchSize, chaque lot etant positionne par cles apres le
+	 * precedent (voir {@link #filter(List, Map, Set, KeysetCursor, int)}) ; les entites deja parcourues sont detachees a chaque
+	 * nouveau lot : la memoire consommee reste bornee quelle que soit la taille du resultat. Le flux doit etre ferme apres usage.
+	 * Les lots etant charges pendant le parcours, le flux doit etre consomme dans une transaction ouverte par l'appelant
+	 * (la transaction propre a l'appel de cette methode est terminee lorsqu'elle retourne)
+	 * @param predicates	Liste des prédicats
+	 * @param orders	Map des Ordre de tri
+	 * @param properties	Ensemble de propriétés à charger (associations simples par jointure, collections par requete secondaire)
+	 * @param fetchSize	Taille des lots de lecture (la taille par defaut de la DAO est utilisee si elle est {@code <= 0})
+	 * @return	Flux des objets trouves
+	 */
+	public Stream<T> stream(List<Predicate> predicates, Map<String, OrderType> orders, Set<String> properties, int fetchSize);
+	
 	/**
 	 * Methode de chargement immediat des proprietes d'une instance de classe
 	 * @param entityIDName Nom de la propriété ID de l'entité
@@ -174,6 +408,51 @@ public interface JPAGenericDAO<T extends Object> {
 	 */
 	public T findByUniqueProperty(String propertyName, Object propertyValue, Set<String>  properties);
 	
+	/**
+	 * Methode de chargement groupe d'entites par leurs ID : les ID sont decoupes en listes IN de taille bornee
+	 * (taille des lots de la DAO) et les entites deja resolubles sans SQL (contexte de persistance ou cache de second niveau)
+	 * ne sont pas rechargees
+	 * @param entityIDName	Nom de la propriete ID de l'entite
+	 * @param entityIDs	Collection des ID
+	 * @param properties	Ensemble des proprietes a charger en EAGER
+	 * @return	Map des entites trouvees indexees par leur ID (les ID introuvables sont absents)
+	 */
+	public Map<Object, T> findAllByPrimaryKeys(String entityIDName, Collection<?> entityIDs, Set<String> properties);
+	
+	/**
+	 * Methode de chargement groupe d'entites par une propriete unique : les valeurs sont decoupees en listes IN
+	 * de taille bornee (taille des lots de la DAO)
+	 * @param propertyName	Nom de la propriete Unique
+	 * @param propertyValues	Collection des valeurs de la propriete Unique
+	 * @param properties	Ensemble des proprietes a charger en EAGER
+	 * @return	Map des entites trouvees indexees par la valeur de la propriete (les valeurs introuvables sont absentes)
+	 */
+	public Map<Object, T> findAllByUniqueProperty(String propertyName, Collection<?> propertyValues, Set<String> properties);
+	
+	/**
+	 * Methode de chargement groupe des associations d'une liste d'entites deja chargees (managees ou detachees).
+	 * Chaque chemin ("a.b.c") est parcouru niveau par niveau : les cles etrangeres (ou les ID des proprietaires d'une collection) 
+	 * du niveau sont collectees et les cibles sont chargees par des requetes IN decoupees en lots (taille des lots de la DAO), 
+	 * soit une requete par niveau au lieu d'une requete par element. Les proxies sont remplaces par les entites chargees 
+	 * et les collections sont initialisees ; les associations deja chargees ne sont pas rechargees
+	 * @param entities	Liste des entites
+	 * @param paths	Chemins des associations a charger
+	 * @return	Liste des entites (la meme instance)
+	 */
+	public List<T> loadAssociations(List<T> entities, String... paths);
+	
+	/**
+	 * Methode de chargement d'une hierarchie d'entites (arbre parent/enfants) niveau par niveau : les racines sont filtrees 
+	 * par les predicats, puis chaque niveau des chemins d'associations enfants ("regions.towns") est charge par une seule 
+	 * requete IN sur les ID du niveau parent (par lot de la taille des lots de la DAO). Le nombre d'aller-retours est 
+	 * ainsi proportionnel a la profondeur de l'arbre et non au nombre de noeuds
+	 * @param predicates	Liste des predicats des racines
+	 * @param orders	Ordres de tri des racines
+	 * @param childPaths	Chemins des associations enfants
+	 * @return	Racines de la hierarchie, associations enfants chargees
+	 */
+	public List<T> loadHierarchy(List<Predicate> predicates, Map<String, OrderType> orders, String... childPaths);
+	
 	/**
 	 * Methode d'obtention du gestionnaire d'entites
 	 * @return	Gestionnaire d'entites
@@ -18,40 +18,86 @@
  */
 package net.leadware.persistence.tools.core.dao.impl;
 
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import javax.persistence.Cache;
+import javax.persistence.EntityGraph;
 import javax.persistence.EntityManager;
 import javax.persistence.EntityNotFoundException;
 import javax.persistence.NoResultException;
 import javax.persistence.NonUniqueResultException;
 import javax.persistence.OptimisticLockException;
+import javax.persistence.PersistenceUnitUtil;
 import javax.persistence.Query;
+import javax.persistence.Tuple;
 import javax.persistence.TypedQuery;
+import javax.persistence.Version;
 import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaDelete;
 import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.CriteriaUpdate;
+import javax.persistence.criteria.Expression;
 import javax.persistence.criteria.FetchParent;
+import javax.persistence.criteria.From;
 import javax.persistence.criteria.JoinType;
 import javax.persistence.criteria.Order;
 import javax.persistence.criteria.ParameterExpression;
 import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.ManagedType;
+import javax.persistence.metamodel.Metamodel;
+import javax.persistence.metamodel.PluralAttribute;
+import javax.persistence.metamodel.SingularAttribute;
+import javax.persistence.metamodel.Type;
 
+import net.leadware.persistence.tools.api.collection.utils.ConverterUtil;
+import net.leadware.persistence.tools.api.dao.constants.AggregateFunction;
 import net.leadware.persistence.tools.api.dao.constants.DAOMode;
 import net.leadware.persistence.tools.api.dao.constants.DAOValidatorEvaluationTime;
 import net.leadware.persistence.tools.api.dao.constants.OrderType;
 import net.leadware.persistence.tools.api.exceptions.JPersistenceToolsException;
 import net.leadware.persistence.tools.api.generator.base.IDAOGeneratorManager;
+import net.leadware.persistence.tools.api.utils.AggregationContainer;
+import net.leadware.persistence.tools.api.utils.AggregationContainer.Aggregate;
+import net.leadware.persistence.tools.api.utils.KeysetCursor;
+import net.leadware.persistence.tools.api.utils.KeysetPage;
+import net.leadware.persistence.tools.api.utils.Page;
+import net.leadware.persistence.tools.api.utils.PropertyContainer;
+import net.leadware.persistence.tools.api.utils.restrictions.ParameterizedPredicate;
 import net.leadware.persistence.tools.api.utils.restrictions.Predicate;
 import net.leadware.persistence.tools.api.validator.annotations.marker.DAOConstraint;
+import net.leadware.persistence.tools.api.validator.base.DAOValidatorContext;
 import net.leadware.persistence.tools.api.validator.base.IDAOValidator;
 import net.leadware.persistence.tools.api.validator.jsr303ext.engine.JSR303ValidatorEngine;
 import net.leadware.persistence.tools.core.dao.JPAGenericDAO;
+import net.leadware.persistence.tools.core.dao.utils.BoundedConcurrentCache;
+import net.leadware.persistence.tools.core.dao.utils.ChunkedQueryIterator;
+import net.leadware.persistence.tools.core.dao.utils.DAOValidationPlan;
+import net.leadware.persistence.tools.core.dao.utils.DAOValidationPlan.Step;
 import net.leadware.persistence.tools.core.dao.utils.DAOValidatorHelper;
 
 /**
@@ -74,9 +120,10 @@ import net.leadware.persistence.tools.core.dao.utils.DAOValidatorHelper;
 public abstract class JPAGenericDAORulesBasedImpl<T extends Object> implements JPAGenericDAO<T> {
 	
 	/**
-	 * Classe de l'entite managee
+	 * Classe de l'entite managee (immuable : les méthodes de lecture n'utilisent que des variables locales 
+	 * et peuvent donc etre appelées concurremment sur un singleton, sans verrou)
 	 */
-	protected Class<T> entityClass = getManagedEntityClass();
+	protected final Class<T> entityClass = getManagedEntityClass();
 	
 	/**
 	 * Alias de l'entité root
@@ -123,6 +170,31 @@ public abstract class JPAGenericDAORulesBasedImpl<T extends Object> implements J
 	 */
 	protected boolean postValidateReferentialConstraintOnDelete = false;
 	
+	/**
+	 * Taille par défaut des lots de traitement des opérations de masse
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 50;
+	
+	/**
+	 * Taille des lots de traitement des opérations de masse
+	 */
+	protected int batchSize = DEFAULT_BATCH_SIZE;
+	
+	/**
+	 * Préfixe des noms de paramètres des prédicats dans les requetes mises en cache
+	 */
+	protected static final String QUERY_PARAMETER_PREFIX = "predicateValue";
+	
+	/**
+	 * Indication JPA 2.1 d'application d'un graphe de chargement (les attributs hors graphe sont chargés paresseusement)
+	 */
+	public static final String FETCH_GRAPH_HINT = "javax.persistence.fetchgraph";
+	
+	/**
+	 * Cache des requetes par critères construites, indexées par forme de requete (une requete évincée n'est plus référencée)
+	 */
+	protected final BoundedConcurrentCache<String, CriteriaQuery<?>> queryCache = new BoundedConcurrentCache<String, CriteriaQuery<?>>();
+	
 	
 	/*
 	 * (non-Javadoc)
@@ -188,6 +260,38 @@ public abstract class JPAGenericDAORulesBasedImpl<T extends Object> implements J
 		this.postValidateReferentialConstraintOnDelete = postValidateReferentialConstraintOnDelete;
 	}
 	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#setBatchSize(int)
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#setQueryCacheSize(int)
+	 */
+	public void setQueryCacheSize(int queryCacheSize) {
+		queryCache.setMaxSize(queryCacheSize);
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#getQueryCacheHitCount()
+	 */
+	public long getQueryCacheHitCount() {
+		return queryCache.getHitCount();
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#getQueryCacheMissCount()
+	 */
+	public long getQueryCacheMissCount() {
+		return queryCache.getMissCount();
+	}
+	
 	/*
 	 * (non-Javadoc)
 	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#getGeneratorEntityManager()
@@ -263,26 +367,163 @@ public abstract class JPAGenericDAORulesBasedImpl<T extends Object> implements J
 	@Override
 	public void clean() {
 		
+		// Suppression ensembliste de toutes les entités (sans chargement ni validation)
+		deleteWhere(null, false, false);
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#deleteAll(java.util.Collection)
+	 */
+	@Override
+	public int deleteAll(Collection<?> entityIDs) {
+		
+		// On retourne le nombre d'entités supprimées
+		return deleteAll(entityIDs, preValidateReferentialConstraintOnDelete, postValidateReferentialConstraintOnDelete);
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#deleteAll(java.util.Collection, boolean, boolean)
+	 */
+	@Override
+	public int deleteAll(Collection<?> entityIDs, boolean preValidateReferentialConstraint, boolean postValidateReferentialConstraint) {
+		
+		// Si la liste des ID est vide
+		if(entityIDs == null || entityIDs.isEmpty()) return 0;
+		
+		// Parcours des ID
+		for (Object entityID : entityIDs) {
+			
+			// Si l'ID est null
+			if(entityID == null) throw new JPersistenceToolsException("jpagenericdaorulesbased.delete.id.null");
+		}
+		
+		// Validateurs de pré-condition applicables (instanciés une seule fois pour toute l'opération)
+		List<IDAOValidator<Annotation>> preValidators = preValidateReferentialConstraint ? buildReferentialValidators(DAOMode.DELETE, DAOValidatorEvaluationTime.PRE_CONDITION) : new ArrayList<IDAOValidator<Annotation>>();
+		
+		// Validateurs de post-condition applicables
+		List<IDAOValidator<Annotation>> postValidators = postValidateReferentialConstraint ? buildReferentialValidators(DAOMode.DELETE, DAOValidatorEvaluationTime.POST_CONDITION) : new ArrayList<IDAOValidator<Annotation>>();
+		
+		// Etat de chargement des entités (uniquement si des validateurs s'appliquent)
+		boolean loadEntities = !preValidators.isEmpty() || !postValidators.isEmpty();
+		
+		// Nombre d'entités supprimées
+		int deleted = 0;
+		
+		// Parcours des lots d'ID
+		for (List<?> chunk : ConverterUtil.partitionCollection(entityIDs, batchSize)) {
+			
+			// Entités du lot
+			Collection<T> entities = loadEntities ? loadEntitiesByIds(chunk).values() : new ArrayList<T>();
+			
+			// Validation groupée des pré-conditions
+			validateEntitiesReferentialConstraint(entities, preValidators);
+			
+			try {
+				
+				// Suppression ensembliste du lot
+				deleted += executeDelete(buildIdsDeleteQuery(chunk));
+				
+			} catch (Exception e) {
+				
+				// On relance
+				throw new JPersistenceToolsException("jpagenericdaorulesbased.delete.error", e);
+			}
+			
+			// Validation groupée des post-conditions
+			validateEntitiesReferentialConstraint(entities, postValidators);
+			
+			// Détachement des entités chargées (supprimées en base), les autres entités du contexte sont conservées
+			detachEntities(entities);
+		}
+		
+		// On retourne le nombre d'entités supprimées
+		return deleted;
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#deleteWhere(java.util.List)
+	 */
+	@Override
+	public int deleteWhere(List<Predicate> predicates) {
+		
+		// On retourne le nombre d'entités supprimées
+		return deleteWhere(predicates, preValidateReferentialConstraintOnDelete, postValidateReferentialConstraintOnDelete);
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#deleteWhere(java.util.List, boolean, boolean)
+	 */
+	@Override
+	public int deleteWhere(List<Predicate> predicates, boolean preValidateReferentialConstraint, boolean postValidateReferentialConstraint) {
+		
+		// Etat d'application des validateurs de pré-condition
+		boolean preValidate = preValidateReferentialConstraint && isReferentialValidationApplicable(DAOMode.DELETE, DAOValidatorEvaluationTime.PRE_CONDITION);
+		
+		// Etat d'application des validateurs de post-condition
+		boolean postValidate = postValidateReferentialConstraint && isReferentialValidationApplicable(DAOMode.DELETE, DAOValidatorEvaluationTime.POST_CONDITION);
+		
+		// Si des validateurs s'appliquent, on passe par la suppression par lots d'ID
+		if(preValidate || postValidate) {
+			
+			// Nombre d'entités supprimées
+			int deleted = 0;
+			
+			// Dernier ID traité
+			Object lastId = null;
+			
+			// Lot d'ID en cours
+			List<Object> chunk = null;
+			
+			// Parcours des lots d'ID, chacun positionné après le dernier ID du lot précédent (les ID ne sont jamais tous chargés)
+			do {
+				
+				// Lot d'ID suivant
+				chunk = selectEntityIds(predicates, lastId, batchSize);
+				
+				// Si le lot est vide
+				if(chunk.isEmpty()) break;
+				
+				// Dernier ID du lot
+				lastId = chunk.get(chunk.size() - 1);
+				
+				// Suppression du lot
+				deleted += deleteAll(chunk, preValidate, postValidate);
+				
+			} while(chunk.size() == batchSize);
+			
+			// On retourne le nombre d'entités supprimées
+			return deleted;
+		}
+		
 		// Criteria Builder
 		CriteriaBuilder criteriaBuilder = getEntityManager().getCriteriaBuilder();
 		
-		// Création du constructeur de requete par critères
-		CriteriaQuery<T> criteriaQuery = criteriaBuilder.createQuery(entityClass);
+		// Requete de suppression par critères
+		CriteriaDelete<T> criteriaDelete = criteriaBuilder.createCriteriaDelete(entityClass);
 		
-		// Root element
-		Root<T> root = criteriaQuery.from(entityClass);
-
-		// Select Clause
-		criteriaQuery.select(root);
-
-		// Requete basée sur les critères
-		TypedQuery<T> query = getEntityManager().createQuery(criteriaQuery);
+		// Construction de la racine
+		Root<T> root = criteriaDelete.from(entityClass);
 		
-		// Liste des Objets
-		List<T> entities = query.getResultList();
+		// Prédicat JPA
+		javax.persistence.criteria.Predicate jpaPredicate = buildJPAPredicate(criteriaBuilder, root, predicates);
 		
-		// Parcours
-		for(T entity : entities) getEntityManager().remove(entity);
+		// Ajout du prédicat
+		if(jpaPredicate != null) criteriaDelete.where(jpaPredicate);
+		
+		try {
+			
+			// On retourne le nombre d'entités supprimées
+			return executeDelete(criteriaDelete);
+			
+		} catch (Exception e) {
+			
+			// On relance
+			throw new JPersistenceToolsException("jpagenericdaorulesbased.delete.error", e);
+		}
 	}
 	
 	/*
@@ -333,6 +574,70 @@ public abstract class JPAGenericDAORulesBasedImpl<T extends Object> implements J
 		return entity;
 	}
 	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#saveAll(java.util.Collection, int)
+	 */
+	@Override
+	public List<T> saveAll(Collection<T> entities, int batchSize) {
+		
+		// On retourne les entites enregistrees
+		return saveAll(entities, batchSize, validateIntegrityConstraintOnSave, preValidateReferentialConstraintOnSave, postValidateReferentialConstraintOnSave);
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#saveAll(java.util.Collection, int, boolean, boolean, boolean)
+	 */
+	@Override
+	public List<T> saveAll(Collection<T> entities, int batchSize, boolean validateIntegrityConstraint, boolean preValidateReferentialConstraint, boolean postValidateReferentialConstraint) {
+		
+		// Liste des entites enregistrees
+		List<T> results = new ArrayList<T>();
+		
+		// Si la collection est vide
+		if(entities == null || entities.isEmpty()) return results;
+		
+		// Decoupage en lots
+		List<List<T>> chunks = ConverterUtil.partitionCollection(entities, resolveBatchSize(batchSize));
+		
+		// Index du premier element du lot en cours
+		int chunkStart = 0;
+		
+		// Parcours des lots
+		for (int chunkIndex = 0; chunkIndex < chunks.size(); chunkIndex++) {
+			
+			// Lot en cours
+			List<T> chunk = chunks.get(chunkIndex);
+			
+			try {
+				
+				// Enregistrement unitaire (generation, validations et persistance)
+				for (T entity : chunk) save(entity, validateIntegrityConstraint, preValidateReferentialConstraint, postValidateReferentialConstraint);
+				
+				// Synchronisation du lot (execution groupee des INSERT)
+				getEntityManager().flush();
+				
+			} catch (RuntimeException e) {
+				
+				// On relance en precisant le lot en echec
+				throw new JPersistenceToolsException("jpagenericdaorulesbased.saveall.chunk.error", buildChunkParameters(chunkIndex, chunkStart, chunk.size()), e);
+			}
+			
+			// Vidage du contexte de persistance
+			getEntityManager().clear();
+			
+			// Ajout des entites du lot
+			results.addAll(chunk);
+			
+			// Index du lot suivant
+			chunkStart += chunk.size();
+		}
+		
+		// On retourne les entites enregistrees
+		return results;
+	}
+	
 	/*
 	 * (non-Javadoc)
 	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#update(java.lang.Object)
@@ -413,59 +718,373 @@ public abstract class JPAGenericDAORulesBasedImpl<T extends Object> implements J
 		// On retourne le resultat
 		return result;
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#updateAll(java.util.Map)
+	 */
+	@Override
+	public List<T> updateAll(Map<Object, T> entities) {
+
+		// On retourne les entites mises a jour
+		return updateAll(entities, batchSize, validateIntegrityConstraintOnUpdate, preValidateReferentialConstraintOnUpdate, postValidateReferentialConstraintOnUpdate);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#updateAll(java.util.Map, int, boolean, boolean, boolean)
+	 */
+	@Override
+	public List<T> updateAll(Map<Object, T> entities, int batchSize, boolean validateIntegrityConstraint, boolean preValidateReferentialConstraint, boolean postValidateReferentialConstraint) {
+
+		// Liste des entites mises a jour
+		List<T> results = new ArrayList<T>();
+
+		// Si la Map est vide
+		if(entities == null || entities.isEmpty()) return results;
+
+		// Parcours des lots
+		for (List<Entry<Object, T>> chunk : ConverterUtil.partitionCollection(entities.entrySet(), resolveBatchSize(batchSize))) {
+
+			// Parcours du lot
+			for (Entry<Object, T> entry : chunk) {
+
+				// Si l'ID est null
+				if(entry.getKey() == null) throw new JPersistenceToolsException("jpagenericdaorulesbased.update.entityid.null");
+
+				// Si l'entite est nulle
+				if(entry.getValue() == null) throw new JPersistenceToolsException("NullEntityException.message");
+
+				// Generation des valeurs
+				generateEntityValues(entry.getValue(), DAOMode.UPDATE, DAOValidatorEvaluationTime.PRE_CONDITION);
+
+				// Si on doit valider les contraintes d'integrites
+				if(validateIntegrityConstraint) validateEntityIntegrityConstraint(entry.getValue(), DAOMode.UPDATE, DAOValidatorEvaluationTime.PRE_CONDITION);
+
+				// Si on doit pre-valider les contraintes referentielles
+				if(preValidateReferentialConstraint) validateEntityReferentialConstraint(entry.getValue(), DAOMode.UPDATE, DAOValidatorEvaluationTime.PRE_CONDITION);
+			}
+
+			// Liste des ID du lot
+			List<Object> ids = new ArrayList<Object>(chunk.size());
+
+			// Parcours du lot
+			for (Entry<Object, T> entry : chunk) ids.add(entry.getKey());
+
+			// Entités en Base de données (chargées dans le contexte de persistance en une seule requete)
+			Map<Object, T> oldEntities = null;
+
+			// Index de la première entité du lot dans le résultat
+			int chunkStart = results.size();
+
+			try {
+
+				// Chargement des entités du lot
+				oldEntities = loadEntitiesByIds(ids);
+
+			} catch (Exception e) {
+
+				// On relance
+				throw new JPersistenceToolsException("jpagenericdaorulesbased.update.entity.error.loading.old.entity", e);
+			}
+
+			// Parcours du lot
+			for (Entry<Object, T> entry : chunk) {
+
+				// Si l'entité n'est pas retrouvée
+				if(!oldEntities.containsKey(entry.getKey())) throw new JPersistenceToolsException("jpagenericdaorulesbased.update.entity.notfound");
+
+				try {
+
+					// Fusion dans l'instance déjà chargée (pas de SELECT supplémentaire)
+					results.add(getEntityManager().merge(entry.getValue()));
+
+				} catch (OptimisticLockException e) {
+
+					// On relance
+					throw new JPersistenceToolsException("jpagenericdaorulesbased.update.optimisticklockexception", e);
+
+				} catch (Exception e) {
+
+					// On relance
+					throw new JPersistenceToolsException("jpagenericdaorulesbased.update.error", e);
+				}
+
+				// Validation de l'entite
+				if(postValidateReferentialConstraint) validateEntityReferentialConstraint(entry.getValue(), DAOMode.UPDATE, DAOValidatorEvaluationTime.POST_CONDITION);
+			}
+
+			try {
+
+				// Synchronisation du lot (execution groupee des UPDATE)
+				getEntityManager().flush();
+
+			} catch (OptimisticLockException e) {
+
+				// On relance
+				throw new JPersistenceToolsException("jpagenericdaorulesbased.update.optimisticklockexception", e);
+
+			} catch (Exception e) {
+
+				// On relance
+				throw new JPersistenceToolsException("jpagenericdaorulesbased.update.error", e);
+			}
+
+			// Détachement des entités du lot (synchronisées), les autres entités du contexte sont conservées
+			detachEntities(results.subList(chunkStart, results.size()));
+		}
+
+		// On retourne les entites mises a jour
+		return results;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#updateWhere(java.util.List, java.util.Map)
+	 */
+	@Override
+	public int updateWhere(List<Predicate> predicates, Map<String, Object> assignments) {
+		
+		// On retourne le nombre d'entités mises à jour
+		return updateWhere(predicates, assignments, false);
+	}
 	
 	/*
 	 * (non-Javadoc)
-	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#findByPrimaryKey(java.lang.Class, java.lang.String, java.lang.Object, java.util.HashSet)
+	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#updateWhere(java.util.List, java.util.Map, boolean)
 	 */
 	@Override
-	public T findByPrimaryKey(String entityIDName, Object entityID, Set<String> properties) {
+	public int updateWhere(List<Predicate> predicates, Map<String, Object> assignments, boolean preValidateReferentialConstraint) {
 		
-		// Si le nom de la propriété ID de l'Objet est null
-		if(entityIDName == null || entityIDName.trim().length() == 0) {
+		// Si la Map des nouvelles valeurs est vide
+		if(assignments == null || assignments.isEmpty()) throw new JPersistenceToolsException("jpagenericdaorulesbased.updatewhere.assignments.empty");
+		
+		// Parcours des propriétés affectées
+		for (String property : assignments.keySet()) {
 			
-			// On leve une exception
-			throw new JPersistenceToolsException("jpagenericdaorulesbased.findbyprimarykey.idname.null");
+			// Une mise à jour ensembliste ne peut affecter qu'une propriété directe de l'entité
+			if(property == null || property.trim().length() == 0 || property.contains(".")) throw new JPersistenceToolsException("jpagenericdaorulesbased.updatewhere.assignment.invalid", new String[] {String.valueOf(property)});
 		}
 		
-		// Si l'ID de l'Objet est null
-		if(entityID == null) {
+		// Validateurs de pré-condition applicables
+		List<IDAOValidator<Annotation>> validators = preValidateReferentialConstraint ? buildReferentialValidators(DAOMode.UPDATE, DAOValidatorEvaluationTime.PRE_CONDITION) : new ArrayList<IDAOValidator<Annotation>>();
+		
+		// Si des validateurs s'appliquent
+		if(!validators.isEmpty()) {
 			
-			// On leve une exception
-			throw new JPersistenceToolsException("jpagenericdaorulesbased.findbyprimarykey.id.null");
+			// Synchronisation des modifications en attente (la sélection des ID porte sur la base)
+			getEntityManager().flush();
+			
+			// Dernier ID traité
+			Object lastId = null;
+			
+			// Lot d'ID en cours
+			List<Object> chunk = null;
+			
+			// Parcours des lots d'ID concernés, chacun positionné après le dernier ID du lot précédent
+			do {
+				
+				// Lot d'ID suivant
+				chunk = selectEntityIds(predicates, lastId, batchSize);
+				
+				// Si le lot est vide
+				if(chunk.isEmpty()) break;
+				
+				// Dernier ID du lot
+				lastId = chunk.get(chunk.size() - 1);
+				
+				// Copies hors contexte des entités du lot (les instances managées, éventuellement celles de l'appelant, restent intactes)
+				List<T> copies = new ArrayList<T>();
+				
+				// Parcours des entités du lot
+				for (T entity : loadEntitiesByIds(chunk).values()) {
+					
+					// Copie de l'entité
+					T copy = copyEntity(entity);
+					
+					// Application des nouvelles valeurs à la copie
+					applyAssignments(copy, assignments);
+					
+					// Ajout de la copie
+					copies.add(copy);
+				}
+				
+				// Validation groupée des copies du lot
+				validateEntitiesReferentialConstraint(copies, validators);
+				
+			} while(chunk.size() == batchSize);
 		}
-
+		
 		// Criteria Builder
 		CriteriaBuilder criteriaBuilder = getEntityManager().getCriteriaBuilder();
 		
-		// Création du constructeur de requete par critères
-		CriteriaQuery<T> criteriaQuery = criteriaBuilder.createQuery(entityClass);
-
-		// Construction de la racine
-		Root<T> root = criteriaQuery.from(entityClass);
-		
-		// Select Clause
-		criteriaQuery.select(root);
-		
-		// Paramètre
-		ParameterExpression<Object> idParameter = criteriaBuilder.parameter(Object.class, entityIDName);
-		
-		// Condition sur l'ID
-		criteriaQuery.where(criteriaBuilder.equal(root.get(entityIDName.trim()), idParameter));
+		// Requete de mise à jour par critères
+		CriteriaUpdate<T> criteriaUpdate = criteriaBuilder.createCriteriaUpdate(entityClass);
 		
-		// Ajout des propriétés à charger en EAGER
-		addProperties(root, criteriaQuery, properties);
+		// Construction de la racine
+		Root<T> root = criteriaUpdate.from(entityClass);
 		
-		// Requete basée sur les critères
-		TypedQuery<T> query = getEntityManager().createQuery(criteriaQuery);
+		// Valeurs des paramètres d'affectation
+		Map<String, Object> parameters = new HashMap<String, Object>();
+		
+		// Parcours des affectations
+		for (Entry<String, Object> assignment : assignments.entrySet()) {
+			
+			// Chemin de la propriété
+			Path<Object> path = (Path<Object>) buildPropertyPathForAnyType(root, assignment.getKey());
+			
+			// Si le chemin est invalide
+			if(path == null) throw new JPersistenceToolsException("jpagenericdaorulesbased.updatewhere.assignment.invalid", new String[] {String.valueOf(assignment.getKey())});
+			
+			// Si la valeur est nulle
+			if(assignment.getValue() == null) {
+				
+				// Affectation de la valeur nulle
+				criteriaUpdate.<Object>set(path, criteriaBuilder.nullLiteral((Class<Object>) path.getJavaType()));
+				
+				// Affectation suivante
+				continue;
+			}
+			
+			// Nom du paramètre
+			String parameterName = "assignment" + parameters.size();
+			
+			// Affectation paramétrée
+			criteriaUpdate.<Object>set(path, criteriaBuilder.parameter((Class<Object>) path.getJavaType(), parameterName));
+			
+			// Sauvegarde de la valeur
+			parameters.put(parameterName, assignment.getValue());
+		}
+		
+		// Nom de la propriété version
+		String versionName = getEntityVersionName();
+		
+		// Si l'entité est versionnée (et que la version n'est pas affectée explicitement), on l'incrémente
+		if(versionName != null && !assignments.containsKey(versionName)) {
+			
+			// Chemin de la version
+			Path<Integer> versionPath = root.get(versionName);
+			
+			// Incrémentation
+			criteriaUpdate.set(versionPath, criteriaBuilder.sum(versionPath, 1));
+		}
+		
+		// Prédicat JPA
+		javax.persistence.criteria.Predicate jpaPredicate = buildJPAPredicate(criteriaBuilder, root, predicates);
+		
+		// Ajout du prédicat
+		if(jpaPredicate != null) criteriaUpdate.where(jpaPredicate);
+		
+		try {
+			
+			// Construction de la requete
+			Query query = getEntityManager().createQuery(criteriaUpdate);
+			
+			// Positionnement des paramètres
+			for (Entry<String, Object> parameter : parameters.entrySet()) query.setParameter(parameter.getKey(), parameter.getValue());
+			
+			// On retourne le nombre d'entités mises à jour
+			return query.executeUpdate();
+			
+		} catch (Exception e) {
+			
+			// On relance
+			throw new JPersistenceToolsException("jpagenericdaorulesbased.updatewhere.error", e);
+		}
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#findByPrimaryKey(java.lang.Class, java.lang.String, java.lang.Object, java.util.HashSet)
+	 */
+	@Override
+	public T findByPrimaryKey(String entityIDName, Object entityID, Set<String> properties) {
+		
+		// Si le nom de la propriété ID de l'Objet est null
+		if(entityIDName == null || entityIDName.trim().length() == 0) {
+			
+			// On leve une exception
+			throw new JPersistenceToolsException("jpagenericdaorulesbased.findbyprimarykey.idname.null");
+		}
+		
+		// Nom de la propriété ID (utilisé pour la forme de la requete, le paramètre et sa valeur)
+		String idName = entityIDName.trim();
+		
+		// Si l'ID de l'Objet est null
+		if(entityID == null) {
+			
+			// On leve une exception
+			throw new JPersistenceToolsException("jpagenericdaorulesbased.findbyprimarykey.id.null");
+		}
+		
+		// Si la propriété est l'ID mappé : recherche par le gestionnaire d'entités (contexte de persistance puis cache de second niveau, sans SQL si l'entité y est)
+		if(isEntityID(idName, entityID)) {
+			
+			// Graphe de chargement des propriétés demandées
+			EntityGraph<T> entityGraph = properties == null || properties.isEmpty() ? null : buildEntityGraph(properties);
+			
+			// Si aucune propriété n'est demandée ou si le graphe est construit
+			if(entityGraph != null || properties == null || properties.isEmpty()) {
+				
+				// Recherche de l'entité
+				T entity = entityGraph == null ? getEntityManager().find(entityClass, entityID) : 
+					getEntityManager().find(entityClass, entityID, Collections.<String, Object>singletonMap(FETCH_GRAPH_HINT, entityGraph));
+				
+				// Si l'entité n'existe pas ou si ses propriétés demandées sont chargées, on la retourne
+				if(entity == null || isLoaded(getEntityManager().getEntityManagerFactory().getPersistenceUnitUtil(), entity, properties)) return entity;
+			}
+		}
+		
+		// Forme de la requete
+		String queryShape = buildQueryShape("findByPrimaryKey(" + idName + ")", null, null, properties);
+		
+		// Requete compilée en cache
+		TypedQuery<T> query = createCachedQuery(queryShape, entityClass);
+		
+		// Si la requete n'est pas en cache
+		if(query == null) {
+			
+			// Criteria Builder
+			CriteriaBuilder criteriaBuilder = getEntityManager().getCriteriaBuilder();
+			
+			// Création du constructeur de requete par critères
+			CriteriaQuery<T> criteriaQuery = criteriaBuilder.createQuery(entityClass);
+			
+			// Construction de la racine
+			Root<T> root = criteriaQuery.from(entityClass);
+			
+			// Select Clause
+			criteriaQuery.select(root);
+			
+			// Paramètre
+			ParameterExpression<Object> idParameter = criteriaBuilder.parameter(Object.class, idName);
+			
+			// Condition sur l'ID
+			criteriaQuery.where(criteriaBuilder.equal(root.get(idName), idParameter));
+			
+			// Chargement des associations simples
+			addSingularProperties(root, properties);
+			
+			// Requete basée sur les critères
+			query = getEntityManager().createQuery(criteriaQuery);
+			
+			// Mise en cache de la requete
+			registerCachedQuery(queryShape, criteriaQuery);
+		}
 		
 		// Positionnement du Paramètre
-		query.setParameter(entityIDName, entityID);
+		query.setParameter(idName, entityID);
 		
 		try {
 
+			// Résultat
+			T entity = query.getSingleResult();
+			
+			// Chargement des collections demandées
+			loadCollections(Collections.singletonList(entity), properties);
+			
 			// On retourne le résultat
-			return query.getSingleResult();
+			return entity;
 			
 		} catch (NoResultException e) {
 			
@@ -499,94 +1118,2559 @@ public abstract class JPAGenericDAORulesBasedImpl<T extends Object> implements J
 			// On leve une exception
 			throw new JPersistenceToolsException("jpagenericdaorulesbased.findbyuniqueproperty.propertyvalue.null");
 		}
+		
+		// Forme de la requete
+		String queryShape = buildQueryShape("findByUniqueProperty(" + propertyName.trim() + ")", null, null, properties);
+		
+		// Requete compilée en cache
+		TypedQuery<T> query = createCachedQuery(queryShape, entityClass);
+		
+		// Si la requete n'est pas en cache
+		if(query == null) {
+			
+			// Criteria Builder
+			CriteriaBuilder criteriaBuilder = getEntityManager().getCriteriaBuilder();
+			
+			// Création du constructeur de requete par critères
+			CriteriaQuery<T> criteriaQuery = criteriaBuilder.createQuery(entityClass);
+			
+			// Construction de la racine
+			Root<T> root = criteriaQuery.from(entityClass);
+			
+			// Select Clause
+			criteriaQuery.select(root);
+			
+			// Paramètre
+			ParameterExpression<Object> propertyParameter = criteriaBuilder.parameter(Object.class, propertyName);
+			
+			// Clause where
+			criteriaQuery.where(criteriaBuilder.equal(root.get(propertyName.trim()), propertyParameter));
+			
+			// Chargement des associations simples
+			addSingularProperties(root, properties);
+			
+			// Requete basée sur les critères
+			query = getEntityManager().createQuery(criteriaQuery);
+			
+			// Mise en cache de la requete
+			registerCachedQuery(queryShape, criteriaQuery);
+		}
+		
+		// Positionnement du Paramètre
+		query.setParameter(propertyName, propertyValue);
+		
+		try {
 
+			// Résultat
+			T entity = query.getSingleResult();
+			
+			// Chargement des collections demandées
+			loadCollections(Collections.singletonList(entity), properties);
+			
+			// On retourne le résultat
+			return entity;
+			
+		} catch (NoResultException e) {
+			
+			// On retourne null
+			return null;
+			
+		} catch (NonUniqueResultException e) {
+			
+			// On leve une exception
+			throw new JPersistenceToolsException("jpagenericdaorulesbased.findbyuniqueproperty.entitypropertyname.notunique");
+		}
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#findAllByPrimaryKeys(java.lang.String, java.util.Collection, java.util.Set)
+	 */
+	@Override
+	public Map<Object, T> findAllByPrimaryKeys(String entityIDName, Collection<?> entityIDs, Set<String> properties) {
+		
+		// Si le nom de la propriété ID de l'Objet est null
+		if(entityIDName == null || entityIDName.trim().length() == 0) {
+			
+			// On leve une exception
+			throw new JPersistenceToolsException("jpagenericdaorulesbased.findbyprimarykey.idname.null");
+		}
+		
+		// Map des entités trouvées
+		Map<Object, T> entities = new LinkedHashMap<Object, T>();
+		
+		// Si la collection est vide
+		if(entityIDs == null || entityIDs.isEmpty()) return entities;
+		
+		// ID restant à charger (sans doublon ni valeur nulle)
+		Set<Object> remainingIDs = new LinkedHashSet<Object>(entityIDs);
+		remainingIDs.remove(null);
+		
+		// Si la propriété est l'ID mappé : les entités présentes dans le contexte de persistance ou dans le cache de second niveau sont résolues sans SQL
+		if(entityIDName.trim().equals(getEntityIDName())) {
+			
+			// Cache de second niveau
+			Cache cache = getEntityManager().getEntityManagerFactory().getCache();
+			
+			// Utilitaire d'unité de persistance
+			PersistenceUnitUtil persistenceUnitUtil = getEntityManager().getEntityManagerFactory().getPersistenceUnitUtil();
+			
+			// Parcours des ID
+			for (Iterator<Object> iterator = remainingIDs.iterator(); iterator.hasNext();) {
+				
+				// ID courant
+				Object entityID = iterator.next();
+				
+				// Entité déjà managée par le contexte de persistance (recherche sans enregistrement de référence)
+				T entity = findManagedEntity(entityID);
+				
+				// Si l'entité n'est pas dans le contexte : résolution par le cache de second niveau
+				if(entity == null && cache.contains(entityClass, entityID)) entity = getEntityManager().find(entityClass, entityID);
+				
+				// Si l'entité n'existe pas ou si une propriété demandée n'est pas chargée, elle passe par la requete
+				if(entity == null || !isLoaded(persistenceUnitUtil, entity, properties)) continue;
+				
+				// Ajout de l'entité
+				entities.put(persistenceUnitUtil.getIdentifier(entity), entity);
+				
+				// L'ID est résolu
+				iterator.remove();
+			}
+		}
+		
+		// Chargement des ID restants par listes IN
+		entities.putAll(loadEntitiesByProperty("findAllByPrimaryKeys(" + entityIDName.trim() + ")", entityIDName.trim(), remainingIDs, properties));
+		
+		// On retourne les entités
+		return entities;
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#findAllByUniqueProperty(java.lang.String, java.util.Collection, java.util.Set)
+	 */
+	@Override
+	public Map<Object, T> findAllByUniqueProperty(String propertyName, Collection<?> propertyValues, Set<String> properties) {
+		
+		// Si le nom de la propriété est null
+		if(propertyName == null || propertyName.trim().length() == 0) {
+			
+			// On leve une exception
+			throw new JPersistenceToolsException("jpagenericdaorulesbased.findbyuniqueproperty.propertyname.null");
+		}
+		
+		// Si la collection est vide
+		if(propertyValues == null || propertyValues.isEmpty()) return new LinkedHashMap<Object, T>();
+		
+		// Valeurs à charger (sans doublon ni valeur nulle)
+		Set<Object> values = new LinkedHashSet<Object>(propertyValues);
+		values.remove(null);
+		
+		// On retourne les entités chargées par listes IN
+		return loadEntitiesByProperty("findAllByUniqueProperty(" + propertyName.trim() + ")", propertyName.trim(), values, properties);
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#loadAssociations(java.util.List, java.lang.String[])
+	 */
+	@Override
+	public List<T> loadAssociations(List<T> entities, String... paths) {
+		
+		// Si aucune entité ou aucun chemin n'est donné
+		if(entities == null || entities.isEmpty() || paths == null) return entities;
+		
+		// Métamodèle
+		Metamodel metamodel = getEntityManager().getMetamodel();
+		
+		// Parcours des chemins
+		for (String path : paths) {
+			
+			// Si le chemin est vide
+			if(path == null || path.trim().length() == 0) continue;
+			
+			// Objets du niveau courant
+			List<Object> owners = new ArrayList<Object>();
+			for (T entity : entities) if(entity != null) owners.add(entity);
+			
+			// Type des objets du niveau courant
+			ManagedType<?> ownerType = metamodel.managedType(entityClass);
+			
+			// Parcours des niveaux du chemin
+			for (String propertyName : path.trim().split("\\.")) {
+				
+				// Si le niveau courant est vide
+				if(owners.isEmpty()) break;
+				
+				// Si le niveau précédent n'est pas une entité ou un objet intégré
+				if(ownerType == null) throw new JPersistenceToolsException("jpagenericdaorulesbased.loadassociations.path.invalid", new String[] {path});
+				
+				// Attribut du niveau
+				Attribute<?, ?> attribute = null;
+				
+				try {
+					
+					// Obtention de l'attribut
+					attribute = ownerType.getAttribute(propertyName.trim());
+					
+				} catch (IllegalArgumentException e) {
+					
+					// Attribut inexistant
+					throw new JPersistenceToolsException("jpagenericdaorulesbased.loadassociations.path.invalid", new String[] {path});
+				}
+				
+				// Type des éléments du niveau suivant
+				Type<?> targetType = attribute.isCollection() ? ((PluralAttribute<?, ?, ?>) attribute).getElementType() : ((SingularAttribute<?, ?>) attribute).getType();
+				
+				// S'il s'agit d'une collection : chargement des collections des propriétaires
+				if(attribute.isCollection()) owners = loadCollectionLevel(owners, ownerType.getJavaType(), attribute.getName());
+				
+				// S'il s'agit d'une entité : chargement des cibles par jointure sur les ID des propriétaires
+				else if(targetType instanceof EntityType) owners = loadSingularLevel(owners, ownerType.getJavaType(), attribute.getName());
+				
+				// Sinon (objet intégré ou valeur simple) : simple parcours
+				else owners = readLevel(owners, attribute.getName());
+				
+				// Type du niveau suivant
+				ownerType = targetType instanceof ManagedType ? (ManagedType<?>) targetType : null;
+			}
+		}
+		
+		// On retourne les entités
+		return entities;
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#loadHierarchy(java.util.List, java.util.Map, java.lang.String[])
+	 */
+	@Override
+	public List<T> loadHierarchy(List<Predicate> predicates, Map<String, OrderType> orders, String... childPaths) {
+		
+		// Chargement des racines (une requete)
+		List<T> roots = filter(predicates, orders, null, 0, 0);
+		
+		// Chargement des niveaux enfants (une requete par niveau)
+		return loadAssociations(roots, childPaths);
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#count(java.util.List)
+	 */
+	public long count(List<Predicate> predicates) {
+		
+		// Forme de la requete
+		String queryShape = buildQueryShape("count", predicates, null, null);
+		
+		// Requete compilée en cache
+		TypedQuery<Long> query = createCachedQuery(queryShape, Long.class);
+		
+		// Si la requete n'est pas en cache
+		if(query == null) {
+			
+			// Criteria Builder
+			CriteriaBuilder criteriaBuilder = getEntityManager().getCriteriaBuilder();
+			
+			// Requete de criteres
+			CriteriaQuery<Long>criteriaQuery = criteriaBuilder.createQuery(Long.class);
+			
+			// Construction de la racine
+			Root<T> root = criteriaQuery.from(entityClass);
+			
+			// On positionne l'Alias
+			root.alias(ROOT_ALIAS);
+			
+			// Selection de la racine
+			criteriaQuery.select(criteriaBuilder.count(root));
+			
+			// Ajout des Prédicats (paramétrés si la requete peut etre mise en cache)
+			if(queryShape != null) addParameterizedPredicates(criteriaBuilder, root, criteriaQuery, predicates);
+			else addPredicates(criteriaBuilder, root, criteriaQuery, predicates);
+			
+			// Construction de la requete basée sur les critères
+			query = getEntityManager().createQuery(criteriaQuery);
+			
+			// Mise en cache de la requete
+			registerCachedQuery(queryShape, criteriaQuery);
+		}
+		
+		// Positionnement des paramètres des prédicats
+		if(queryShape != null) bindPredicateParameters(query, predicates);
+		
+		// On retourne le resultat
+		return query.getSingleResult();
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#countAll(java.util.List)
+	 */
+	@Override
+	public long[] countAll(List<List<Predicate>> predicateSets) {
+		
+		// Si la liste est vide
+		if(predicateSets == null || predicateSets.isEmpty()) return new long[0];
+		
 		// Criteria Builder
 		CriteriaBuilder criteriaBuilder = getEntityManager().getCriteriaBuilder();
 		
-		// Création du constructeur de requete par critères
-		CriteriaQuery<T> criteriaQuery = criteriaBuilder.createQuery(entityClass);
-
+		// Requete de criteres
+		CriteriaQuery<Tuple> criteriaQuery = criteriaBuilder.createTupleQuery();
+		
 		// Construction de la racine
 		Root<T> root = criteriaQuery.from(entityClass);
 		
-		// Select Clause
-		criteriaQuery.select(root);
-
-		// Paramètre
-		ParameterExpression<Object> propertyParameter = criteriaBuilder.parameter(Object.class, propertyName);
+		// On positionne l'Alias
+		root.alias(ROOT_ALIAS);
 		
-		// Clause where
-		criteriaQuery.where(criteriaBuilder.equal(root.get(propertyName.trim()), propertyParameter));
+		// Colonnes de comptage
+		List<Selection<?>> selections = new ArrayList<Selection<?>>();
 		
-		// Ajout des propriétés à charger en EAGER
-		addProperties(root, criteriaQuery, properties);
-
-		// Requete basée sur les critères
-		TypedQuery<T> query = getEntityManager().createQuery(criteriaQuery);
+		// Disjonction des ensembles (restriction des lignes parcourues)
+		List<javax.persistence.criteria.Predicate> disjunction = new ArrayList<javax.persistence.criteria.Predicate>();
+		
+		// Parcours des ensembles
+		for (List<Predicate> predicates : predicateSets) {
+			
+			// Prédicat JPA de l'ensemble
+			javax.persistence.criteria.Predicate jpaPredicate = buildJPAPredicate(criteriaBuilder, root, predicates);
+			
+			// Si l'ensemble est vide : comptage de toutes les lignes (plus de restriction possible)
+			if(jpaPredicate == null) {
+				
+				// Colonne de comptage
+				selections.add(criteriaBuilder.count(root));
+				
+				// Aucune restriction
+				disjunction = null;
+				
+				// Ensemble suivant
+				continue;
+			}
+			
+			// Colonne SUM(CASE WHEN ... THEN 1 ELSE 0 END)
+			selections.add(criteriaBuilder.sum(criteriaBuilder.<Long>selectCase().when(jpaPredicate, 1L).otherwise(0L)));
+			
+			// Ajout dans la disjonction
+			if(disjunction != null) disjunction.add(jpaPredicate);
+		}
+		
+		// Sélection des colonnes
+		criteriaQuery.multiselect(selections);
+		
+		// Restriction aux lignes vérifiant au moins un ensemble
+		if(disjunction != null) criteriaQuery.where(criteriaBuilder.or(disjunction.toArray(new javax.persistence.criteria.Predicate[0])));
+		
+		// Exécution
+		Tuple row = getEntityManager().createQuery(criteriaQuery).getSingleResult();
+		
+		// Nombres d'entités
+		long[] counts = new long[predicateSets.size()];
+		
+		// Parcours des colonnes (une somme sur aucune ligne est nulle)
+		for (int index = 0; index < counts.length; index++) counts[index] = row.get(index) == null ? 0 : ((Number) row.get(index)).longValue();
+		
+		// On retourne les nombres d'entités
+		return counts;
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#exists(java.util.List)
+	 */
+	@Override
+	public boolean exists(List<Predicate> predicates) {
+		
+		// Criteria Builder
+		CriteriaBuilder criteriaBuilder = getEntityManager().getCriteriaBuilder();
+		
+		// Requete de criteres
+		CriteriaQuery<Integer> criteriaQuery = criteriaBuilder.createQuery(Integer.class);
+		
+		// Construction de la racine
+		Root<T> root = criteriaQuery.from(entityClass);
+		
+		// On positionne l'Alias
+		root.alias(ROOT_ALIAS);
+		
+		// Selection d'une constante
+		criteriaQuery.select(criteriaBuilder.literal(1));
+		
+		// Ajout des Prédicats
+		addPredicates(criteriaBuilder, root, criteriaQuery, predicates);
+		
+		// On retourne l'existence d'une première ligne
+		return !getEntityManager().createQuery(criteriaQuery).setMaxResults(1).getResultList().isEmpty();
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#existsById(java.lang.Object)
+	 */
+	@Override
+	public boolean existsById(Object entityID) {
+		
+		// Si l'ID de l'Objet est null
+		if(entityID == null) {
+			
+			// On leve une exception
+			throw new JPersistenceToolsException("jpagenericdaorulesbased.existsbyid.id.null");
+		}
+		
+		// Si l'entité est déjà managée par le contexte de persistance : résolution sans SQL
+		if(findManagedEntity(entityID) != null) return true;
+		
+		// Si l'entité est dans le cache de second niveau : résolution sans SQL
+		if(getEntityManager().getEntityManagerFactory().getCache().contains(entityClass, entityID)) return getEntityManager().find(entityClass, entityID) != null;
+		
+		// Criteria Builder
+		CriteriaBuilder criteriaBuilder = getEntityManager().getCriteriaBuilder();
+		
+		// Requete de criteres
+		CriteriaQuery<Integer> criteriaQuery = criteriaBuilder.createQuery(Integer.class);
+		
+		// Construction de la racine
+		Root<T> root = criteriaQuery.from(entityClass);
+		
+		// Selection d'une constante
+		criteriaQuery.select(criteriaBuilder.literal(1));
+		
+		// Condition sur l'ID
+		criteriaQuery.where(criteriaBuilder.equal(root.get(getEntityIDName()), entityID));
+		
+		// On retourne l'existence d'une première ligne (le contexte de persistance est synchronisé au préalable en mode AUTO)
+		return !getEntityManager().createQuery(criteriaQuery).setMaxResults(1).getResultList().isEmpty();
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#filter(java.util.List, java.util.Map, java.util.Set, int, int)
+	 */
+	@Override
+	public List<T> filter(List<Predicate> predicates, Map<String, OrderType> orders, Set<String> properties, int firstResult, int maxResult) {
+		
+		// Si des collections sont demandées sur une page : pagination en deux phases (ID puis entités)
+		if(maxResult > 0 && hasCollectionPath(properties)) return filterTwoPhase(predicates, orders, properties, firstResult, maxResult);
+		
+		// Forme de la requete
+		String queryShape = buildQueryShape("filter", predicates, orders, properties);
+		
+		// Requete compilée en cache
+		TypedQuery<T> query = createCachedQuery(queryShape, entityClass);
+		
+		// Si la requete n'est pas en cache
+		if(query == null) {
+			
+			// Criteria Builder
+			CriteriaBuilder criteriaBuilder = getEntityManager().getCriteriaBuilder();
+			
+			// Requete de criteres
+			CriteriaQuery<T>criteriaQuery = criteriaBuilder.createQuery(entityClass);
+			
+			// Construction de la racine
+			Root<T> root = criteriaQuery.from(entityClass);
+			
+			// On positionne l'Alias
+			root.alias(ROOT_ALIAS);
+			
+			// Selection de la racine
+			criteriaQuery.select(root);
+			
+			// Ajout des Prédicats (paramétrés si la requete peut etre mise en cache)
+			if(queryShape != null) addParameterizedPredicates(criteriaBuilder, root, criteriaQuery, predicates);
+			else addPredicates(criteriaBuilder, root, criteriaQuery, predicates);
+			
+			// Ajout des Odres
+			addOrders(criteriaBuilder, root, criteriaQuery, orders);
+			
+			// Chargement des associations simples (sans DISTINCT : la pagination reste appliquée par la base)
+			addSingularProperties(root, properties);
+			
+			// Construction de la requete basée sur les critères
+			query = getEntityManager().createQuery(criteriaQuery);
+			
+			// Mise en cache de la requete
+			registerCachedQuery(queryShape, criteriaQuery);
+		}
+		
+		// Positionnement des paramètres des prédicats
+		if(queryShape != null) bindPredicateParameters(query, predicates);
+		
+		// Traitement de l'index du premier resultat
+		
+		// Si l'index du premier element est < 0
+		if(firstResult < 0) query.setFirstResult(0);
+		else query.setFirstResult(firstResult);
+		
+		// Traitement du nombre max de resultat
+		
+		// Si le nombre max d'element est <= 0
+		if(maxResult > 0) query.setMaxResults(maxResult);
+		
+		// Execution
+		List<T> results = query.getResultList();
+		
+		// Chargement des collections demandées par une requete secondaire
+		loadCollections(results, properties);
+		
+		// On retourne le résultat
+		return results;
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#filterProjection(java.util.List, java.util.Map, java.util.List, java.lang.Class, int, int)
+	 */
+	@Override
+	public <R> List<R> filterProjection(List<Predicate> predicates, Map<String, OrderType> orders, List<String> columns, Class<R> resultClass, int firstResult, int maxResult) {
+		
+		// Si aucune colonne n'est demandée
+		if(columns == null || columns.isEmpty()) {
+			
+			// On leve une exception
+			throw new JPersistenceToolsException("jpagenericdaorulesbased.filterprojection.columns.empty");
+		}
+		
+		// Si la classe des lignes est nulle
+		if(resultClass == null) {
+			
+			// On leve une exception
+			throw new JPersistenceToolsException("jpagenericdaorulesbased.filterprojection.resultclass.null");
+		}
+		
+		// Criteria Builder
+		CriteriaBuilder criteriaBuilder = getEntityManager().getCriteriaBuilder();
+		
+		// Requete de criteres
+		CriteriaQuery<R> criteriaQuery = criteriaBuilder.createQuery(resultClass);
+		
+		// Construction de la racine
+		Root<T> root = criteriaQuery.from(entityClass);
+		
+		// On positionne l'Alias
+		root.alias(ROOT_ALIAS);
+		
+		// Liste des colonnes sélectionnées
+		List<Selection<?>> selections = new ArrayList<Selection<?>>();
+		
+		// Jointures des colonnes (partagées entre les colonnes d'une meme association)
+		Map<String, From<?, ?>> joins = new HashMap<String, From<?, ?>>();
+		
+		// Parcours des colonnes
+		for (String column : columns) {
+			
+			// Chemin de la colonne
+			Path<?> path = column == null ? null : buildProjectionPath(root, column, joins);
+			
+			// Si la colonne est invalide
+			if(path == null) throw new JPersistenceToolsException("jpagenericdaorulesbased.filterprojection.column.invalid", new String[] {String.valueOf(column)}, null);
+			
+			// Ajout de la colonne (nommée par son chemin)
+			selections.add(path.alias(column.trim()));
+		}
+		
+		// Si on attend des Tuple ou des tableaux
+		if(Tuple.class.equals(resultClass) || Object[].class.equals(resultClass)) criteriaQuery.multiselect(selections);
+		
+		// Sinon, expression de constructeur
+		else criteriaQuery.select(criteriaBuilder.construct(resultClass, selections.toArray(new Selection<?>[0])));
+		
+		// Ajout des Prédicats
+		addPredicates(criteriaBuilder, root, criteriaQuery, predicates);
+		
+		// Ajout des Odres
+		List<Order> jpaOrders = buildOrders(criteriaBuilder, root, orders);
+		if(!jpaOrders.isEmpty()) criteriaQuery.orderBy(jpaOrders);
+		
+		// Construction de la requete basée sur les critères
+		TypedQuery<R> query = getEntityManager().createQuery(criteriaQuery);
+		
+		// Positionnement du premier résultat
+		query.setFirstResult(firstResult < 0 ? 0 : firstResult);
+		
+		// Si le nombre max d'element est > 0
+		if(maxResult > 0) query.setMaxResults(maxResult);
+		
+		// On retourne le résultat
+		return query.getResultList();
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#aggregate(java.util.List, net.leadware.persistence.tools.api.utils.AggregationContainer)
+	 */
+	@Override
+	public List<Tuple> aggregate(List<Predicate> predicates, AggregationContainer aggregation) {
+		
+		// Si aucun agrégat n'est demandé
+		if(aggregation == null || aggregation.getAggregates().isEmpty()) {
+			
+			// On leve une exception
+			throw new JPersistenceToolsException("jpagenericdaorulesbased.aggregate.empty");
+		}
+		
+		// Criteria Builder
+		CriteriaBuilder criteriaBuilder = getEntityManager().getCriteriaBuilder();
+		
+		// Requete de criteres
+		CriteriaQuery<Tuple> criteriaQuery = criteriaBuilder.createTupleQuery();
+		
+		// Construction de la racine
+		Root<T> root = criteriaQuery.from(entityClass);
+		
+		// On positionne l'Alias
+		root.alias(ROOT_ALIAS);
+		
+		// Liste des colonnes sélectionnées
+		List<Selection<?>> selections = new ArrayList<Selection<?>>();
+		
+		// Liste des expressions de regroupement
+		List<Expression<?>> groupBy = new ArrayList<Expression<?>>();
+		
+		// Liste des ordres (suivant les propriétés de regroupement)
+		List<Order> orders = new ArrayList<Order>();
+		
+		// Parcours des propriétés de regroupement
+		for (String property : aggregation.getGroupBy()) {
+			
+			// Si la propriété n'existe pas dans le métamodèle
+			if(getPropertyJavaType(property) == null) throw new JPersistenceToolsException("jpagenericdaorulesbased.aggregate.property.invalid", new String[] {property}, null);
+			
+			// Chemin de la propriété
+			Path<?> path = buildPropertyPathForAnyType(root, property);
+			
+			// Ajout du regroupement, de la colonne et de l'ordre
+			groupBy.add(path);
+			selections.add(path.alias(property));
+			orders.add(criteriaBuilder.asc(path));
+		}
+		
+		// Parcours des agrégats
+		for (Aggregate aggregate : aggregation.getAggregates()) {
+			
+			// Si la propriété n'existe pas dans le métamodèle
+			if(getPropertyJavaType(aggregate.getProperty()) == null) throw new JPersistenceToolsException("jpagenericdaorulesbased.aggregate.property.invalid", new String[] {aggregate.getProperty()}, null);
+			
+			// Ajout de la colonne
+			selections.add(buildAggregateExpression(criteriaBuilder, buildPropertyPathForAnyType(root, aggregate.getProperty()), aggregate.getFunction()).alias(aggregate.getAlias()));
+		}
+		
+		// Sélection des colonnes
+		criteriaQuery.multiselect(selections);
+		
+		// Ajout des Prédicats
+		addPredicates(criteriaBuilder, root, criteriaQuery, predicates);
+		
+		// S'il y a des regroupements
+		if(!groupBy.isEmpty()) {
+			
+			// Ajout des regroupements
+			criteriaQuery.groupBy(groupBy);
+			
+			// Ajout des ordres
+			criteriaQuery.orderBy(orders);
+		}
+		
+		// On retourne le résultat
+		return getEntityManager().createQuery(criteriaQuery).getResultList();
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#page(java.util.List, java.util.Map, java.util.Set, int, int)
+	 */
+	@Override
+	public Page<T> page(List<Predicate> predicates, Map<String, OrderType> orders, Set<String> properties, int firstResult, int maxResult) {
+		
+		// Index effectif du premier élément
+		int first = firstResult < 0 ? 0 : firstResult;
+		
+		// Contenu de la page
+		List<T> content = filter(predicates, orders, properties, first, maxResult);
+		
+		// Nombre total d'éléments
+		long totalCount;
+		
+		// Si la page est incomplète (ou non paginée) et non vide (ou la première) : le total se déduit de la page
+		if((maxResult <= 0 || content.size() < maxResult) && (content.size() > 0 || first == 0)) totalCount = first + content.size();
+		
+		// Sinon, comptage
+		else totalCount = count(predicates);
+		
+		// On retourne la page
+		return new Page<T>(content, totalCount, first, maxResult);
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#filter(java.util.List, java.util.Map, java.util.Set, net.leadware.persistence.tools.api.utils.KeysetCursor, int)
+	 */
+	@Override
+	public KeysetPage<T> filter(List<Predicate> predicates, Map<String, OrderType> orders, Set<String> properties, KeysetCursor cursor, int maxResult) {
+		
+		// Clés de tri complétées par l'ID
+		Map<String, OrderType> keysetOrders = buildKeysetOrders(orders);
+		
+		// Si le curseur ne correspond pas aux clés de tri
+		if(cursor != null && !new ArrayList<Entry<String, OrderType>>(keysetOrders.entrySet()).equals(new ArrayList<Entry<String, OrderType>>(cursor.getOrders().entrySet()))) {
+			
+			// On leve une exception
+			throw new JPersistenceToolsException("jpagenericdaorulesbased.keyset.cursor.mismatch");
+		}
+		
+		// Criteria Builder
+		CriteriaBuilder criteriaBuilder = getEntityManager().getCriteriaBuilder();
+		
+		// Requete de criteres
+		CriteriaQuery<T> criteriaQuery = criteriaBuilder.createQuery(entityClass);
+		
+		// Construction de la racine
+		Root<T> root = criteriaQuery.from(entityClass);
+		
+		// On positionne l'Alias
+		root.alias(ROOT_ALIAS);
+		
+		// Selection de la racine
+		criteriaQuery.select(root);
+		
+		// Liste des prédicats JPA
+		List<javax.persistence.criteria.Predicate> jpaPredicates = new ArrayList<javax.persistence.criteria.Predicate>();
+		
+		// Prédicats de filtre
+		if(predicates != null && !predicates.isEmpty()) jpaPredicates.add(buildJPAPredicate(criteriaBuilder, root, predicates));
+		
+		// Prédicat de positionnement après le curseur
+		if(cursor != null) jpaPredicates.add(buildKeysetPredicate(criteriaBuilder, root, keysetOrders, cursor.getValues()));
+		
+		// Ajout des Prédicats
+		if(!jpaPredicates.isEmpty()) criteriaQuery.where(jpaPredicates.toArray(new javax.persistence.criteria.Predicate[0]));
+		
+		// Ajout des Odres (valeurs nulles explicitement placées, comme le suppose le prédicat de positionnement)
+		criteriaQuery.orderBy(buildKeysetOrders(criteriaBuilder, root, keysetOrders));
+		
+		// Chargement des associations simples
+		addSingularProperties(root, properties);
+		
+		// Construction de la requete basée sur les critères
+		TypedQuery<T> query = getEntityManager().createQuery(criteriaQuery);
+		
+		// Taille de la page
+		int pageSize = resolveBatchSize(maxResult);
+		
+		// Un élément de plus pour savoir s'il existe une page suivante
+		query.setMaxResults(pageSize + 1);
+		
+		// Execution
+		List<T> results = new ArrayList<T>(query.getResultList());
+		
+		// S'il y a une page suivante, retrait de l'élément supplémentaire
+		boolean hasNext = results.size() > pageSize;
+		if(hasNext) results.remove(pageSize);
+		
+		// Chargement des collections demandées par une requete secondaire
+		loadCollections(results, properties);
+		
+		// S'il n'y a pas de page suivante
+		if(!hasNext) return new KeysetPage<T>(results, null);
+		
+		// Dernier élément de la page
+		T last = results.get(pageSize - 1);
+		
+		// Valeurs des clés de tri du dernier élément
+		List<Object> values = new ArrayList<Object>();
+		
+		// Parcours des clés de tri
+		for (String property : keysetOrders.keySet()) {
+			
+			try {
+				
+				// Evaluation de la clé
+				values.add(DAOValidatorHelper.evaluateValueExpression("${" + property + "}", last));
+				
+			} catch (Exception e) {
+				
+				// On relance
+				throw new JPersistenceToolsException("jpagenericdaorulesbased.keyset.value.error", new String[] {property}, e);
+			}
+		}
+		
+		// On retourne la page
+		return new KeysetPage<T>(results, new KeysetCursor(keysetOrders, values));
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#stream(java.util.List, java.util.Map, java.util.Set, int)
+	 */
+	@Override
+	public Stream<T> stream(final List<Predicate> predicates, final Map<String, OrderType> orders, final Set<String> properties, int fetchSize) {
+		
+		// Chargeur des lots : pagination par clés (ordres complétés par l'ID), associations simples
+		// chargées par jointure et collections par requete secondaire
+		ChunkedQueryIterator.ChunkLoader<T> loader = new ChunkedQueryIterator.ChunkLoader<T>() {
+			
+			/*
+			 * (non-Javadoc)
+			 * @see net.leadware.persistence.tools.core.dao.utils.ChunkedQueryIterator.ChunkLoader#load(net.leadware.persistence.tools.api.utils.KeysetCursor, int)
+			 */
+			@Override
+			public KeysetPage<T> load(KeysetCursor cursor, int size) {
+				
+				// Chargement du lot suivant le curseur
+				return filter(predicates, orders, properties, cursor, size);
+			}
+		};
+		
+		// Itérateur par lots
+		final ChunkedQueryIterator<T> iterator = new ChunkedQueryIterator<T>(getEntityManager(), loader, resolveBatchSize(fetchSize));
+		
+		// On retourne le flux (sa fermeture ferme l'itérateur)
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(new Runnable() {
+			
+			/*
+			 * (non-Javadoc)
+			 * @see java.lang.Runnable#run()
+			 */
+			@Override
+			public void run() {
+				
+				// Fermeture de l'itérateur
+				iterator.close();
+			}
+		});
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#executeCriteria(javax.persistence.criteria.CriteriaQuery, java.util.Map)
+	 */
+	@Override
+	public <Q> List<Q> executeCriteria(CriteriaQuery<Q> criteriaQuery, Map<String, Object> parameters) {
+		
+		// Si la Requete est nulle
+		if(criteriaQuery == null) throw new JPersistenceToolsException("jpagenericdaorulesbased.executeCriteria.query.null");
+		
+		// Requete Typee
+		TypedQuery<Q> query = getEntityManager().createQuery(criteriaQuery);
+		
+		// Ajout des Parametres
+		addQueryParameters(query, parameters);
+		
+		// Execution
+		return query.getResultList();
+	}
+	
+	/**
+	 * Méthode d'ajout de parametres à la requete
+	 * @param query	Requete
+	 * @param parameters	Map des parametres
+	 */
+	protected void addQueryParameters(Query query, Map<String, Object> parameters) {
+		
+		// Si la MAP est nulle
+		if(parameters == null || parameters.size() == 0) return;
+		
+		// Parcours
+		for(Entry<String, Object> entry : parameters.entrySet()) {
+			
+			// Ajout
+			query.setParameter(entry.getKey(), entry.getValue());
+		}
+	}
+	
+	/**
+	 * Méthode de chargement des ordres
+	 * @param criteriaBuilder Constructeur de criteres
+	 * @param root Objet racine
+	 * @param criteriaQuery	Requete de critères
+	 * @param orders	 Liste des ordres
+	 */
+	protected void addOrders(CriteriaBuilder criteriaBuilder, Root<T> root, CriteriaQuery<T> criteriaQuery, Map<String, OrderType> orders) {
+		
+		// Si la liste est vide
+		if(orders == null || orders.size() == 0) return;
+		
+		// Ajout
+		criteriaQuery.orderBy(buildOrders(criteriaBuilder, root, orders));
+	}
+	
+	/**
+	 * Méthode de construction de l'expression d'agrégation d'une propriété
+	 * @param criteriaBuilder	Constructeur de critères
+	 * @param path	Chemin de la propriété
+	 * @param function	Fonction d'agrégation
+	 * @return	Expression d'agrégation
+	 */
+	protected Expression<?> buildAggregateExpression(CriteriaBuilder criteriaBuilder, Path<?> path, AggregateFunction function) {
+		
+		// En fonction de la fonction
+		switch (function) {
+			
+			// Somme
+			case SUM: return criteriaBuilder.sum(this.<Number>buildAggregateOperand(path, Number.class, function));
+			
+			// Moyenne
+			case AVG: return criteriaBuilder.avg(this.<Number>buildAggregateOperand(path, Number.class, function));
+			
+			// Minimum
+			case MIN: return criteriaBuilder.least(this.<Comparable<Object>>buildAggregateOperand(path, Comparable.class, function));
+			
+			// Maximum
+			case MAX: return criteriaBuilder.greatest(this.<Comparable<Object>>buildAggregateOperand(path, Comparable.class, function));
+			
+			// Nombre de valeurs distinctes
+			case COUNT_DISTINCT: return criteriaBuilder.countDistinct(path);
+			
+			// Nombre de valeurs
+			default: return criteriaBuilder.count(path);
+		}
+	}
+	
+	/**
+	 * Méthode de typage de l'opérande d'une fonction d'agrégation, après vérification du type Java de la propriété
+	 * @param <Y>	Type de l'opérande attendu par la fonction
+	 * @param path	Chemin de la propriété
+	 * @param requiredType	Type requis par la fonction (Number, Comparable)
+	 * @param function	Fonction d'agrégation
+	 * @return	Opérande typé
+	 */
+	@SuppressWarnings("unchecked")
+	protected <Y> Expression<Y> buildAggregateOperand(Path<?> path, Class<?> requiredType, AggregateFunction function) {
+		
+		// Type Java de la propriété
+		Class<?> javaType = path.getJavaType();
+		
+		// Si le type est primitif, on raisonne sur son type enveloppe
+		if(javaType != null && javaType.isPrimitive()) javaType = boolean.class.equals(javaType) ? Boolean.class : char.class.equals(javaType) ? Character.class : Number.class;
+		
+		// Si le type n'est pas compatible avec la fonction
+		if(javaType == null || !requiredType.isAssignableFrom(javaType)) {
+			
+			// On leve une exception
+			throw new JPersistenceToolsException("jpagenericdaorulesbased.aggregate.function.invalid", new String[] {function.name(), String.valueOf(javaType == null ? null : javaType.getName())}, null);
+		}
+		
+		// On retourne l'opérande (type vérifié)
+		return (Expression<Y>) path;
+	}
+	
+	/**
+	 * Méthode d'obtention du type Java d'une propriété (éventuellement pointée) accessible par simple chemin, d'après le métamodèle
+	 * (un chemin ne peut traverser une collection sans jointure explicite)
+	 * @param property	Chemin de la propriété
+	 * @return	Type Java de la propriété, null si le chemin n'existe pas dans le métamodèle ou désigne une collection
+	 */
+	protected Class<?> getPropertyJavaType(String property) {
+		
+		// Si le chemin est vide
+		if(property == null || property.trim().length() == 0) return null;
+		
+		// Type courant
+		ManagedType<?> type = getEntityManager().getMetamodel().managedType(entityClass);
+		
+		// Type Java du dernier segment
+		Class<?> javaType = null;
+		
+		// Parcours des segments du chemin
+		for (String segment : property.trim().split("\\.")) {
+			
+			// Si le segment précédent n'est pas une classe gérée
+			if(type == null) return null;
+			
+			// Attribut du segment
+			Attribute<?, ?> attribute = null;
+			
+			try {
+				
+				// Obtention de l'attribut
+				attribute = type.getAttribute(segment.trim());
+				
+			} catch (IllegalArgumentException e) {
+				
+				// Attribut inexistant
+				return null;
+			}
+			
+			// Si le segment est une collection (non accessible par simple chemin)
+			if(!(attribute instanceof SingularAttribute)) return null;
+			
+			// Type du segment
+			Type<?> segmentType = ((SingularAttribute<?, ?>) attribute).getType();
+			
+			// Type Java du segment
+			javaType = segmentType.getJavaType();
+			
+			// Type du segment suivant
+			type = segmentType instanceof ManagedType ? (ManagedType<?>) segmentType : null;
+		}
+		
+		// On retourne le type Java
+		return javaType;
+	}
+	
+	/**
+	 * Méthode de construction des ordres JPA
+	 * @param criteriaBuilder Constructeur de criteres
+	 * @param root Objet racine
+	 * @param orders	 Liste des ordres
+	 * @return	Liste des ordres JPA (dans l'ordre de déclaration)
+	 */
+	protected List<Order> buildOrders(CriteriaBuilder criteriaBuilder, Root<T> root, Map<String, OrderType> orders) {
+		
+		// Liste d'ordres
+		List<Order> lOrders = new ArrayList<Order>();
+		
+		// Si la liste est vide
+		if(orders == null || orders.size() == 0) return lOrders;
+		
+		// Parcours
+		for (String property : orders.keySet()) {
+			
+			// Si la propriete est vide
+			if(property == null || property.trim().length() == 0) continue;
+			
+			// Evaluation de la ppt
+			Path<?> path = buildPropertyPathForAnyType(root, property.trim());
+			
+			// Obtention du Type
+			OrderType type = orders.get(property);
+			
+			// Si le type est null
+			if(type == null) continue;
+			
+			// Si on est en ASC
+			if(type.equals(OrderType.ASC)) lOrders.add(criteriaBuilder.asc(path));
+			else lOrders.add(criteriaBuilder.desc(path));
+		}
+		
+		// On retourne les ordres
+		return lOrders;
+	}
+	
+	/**
+	 * Méthode de chargement des prédicats
+	 * @param criteriaBuilder Constructeur de critères
+	 * @param root Objet racine
+	 * @param criteriaQuery	Requete de critères
+	 * @param predicates	Liste des predicats
+	 */
+	protected void addPredicates(CriteriaBuilder criteriaBuilder, Root<T> root, CriteriaQuery<?> criteriaQuery, List<Predicate> predicates) {
+		
+		// Si la liste de predicats est vide
+		if(predicates == null || predicates.size() == 0) return;
+		
+		// Ajout du prédicat JPA
+		criteriaQuery.where(buildJPAPredicate(criteriaBuilder, root, predicates));
+	}
+	
+	/**
+	 * Méthode de construction du prédicat JPA (conjonction) correspondant à une liste de prédicats
+	 * @param criteriaBuilder	Constructeur de critères
+	 * @param root	Racine de la requete
+	 * @param predicates	Liste de prédicats
+	 * @return	Prédicat JPA (null si la liste est vide)
+	 */
+	protected javax.persistence.criteria.Predicate buildJPAPredicate(CriteriaBuilder criteriaBuilder, Root<T> root, List<Predicate> predicates) {
+		
+		// Si la liste de predicats est vide
+		if(predicates == null || predicates.size() == 0) return null;
+		
+		// Liste de predicats JPA 2
+		List<javax.persistence.criteria.Predicate> jpaPredicates = new ArrayList<javax.persistence.criteria.Predicate>();
+		
+		// Parcours de la liste
+		for (Predicate predicate : predicates) {
+			
+			// Ajout du critere JPA
+			jpaPredicates.add(predicate.generateJPAPredicate(criteriaBuilder, root));
+		}
+		
+		// Si la liste des prdicats JPA est de taille 1
+		if(jpaPredicates.size() == 1) return jpaPredicates.get(0);
+		
+		// Sinon
+		return criteriaBuilder.and(jpaPredicates.toArray(new javax.persistence.criteria.Predicate[0]));
+	}
+	
+	/**
+	 * Méthode de chargement des prédicats dont les valeurs sont portées par des paramètres de requete
+	 * @param criteriaBuilder Constructeur de critères
+	 * @param root Objet racine
+	 * @param criteriaQuery	Requete de critères
+	 * @param predicates	Liste des predicats (tous paramétrables)
+	 */
+	protected void addParameterizedPredicates(CriteriaBuilder criteriaBuilder, Root<T> root, CriteriaQuery<?> criteriaQuery, List<Predicate> predicates) {
+		
+		// Si la liste de predicats est vide
+		if(predicates == null || predicates.size() == 0) return;
+		
+		// Liste de predicats JPA 2
+		List<javax.persistence.criteria.Predicate> jpaPredicates = new ArrayList<javax.persistence.criteria.Predicate>();
+		
+		// Parcours de la liste
+		for (int index = 0; index < predicates.size(); index++) {
+			
+			// Prédicat paramétrable
+			ParameterizedPredicate predicate = (ParameterizedPredicate) predicates.get(index);
+			
+			// Valeur du paramètre
+			Object value = predicate.getParameterValue();
+			
+			// Ajout du critere JPA (paramétré si le prédicat a une valeur)
+			if(value == null) jpaPredicates.add(predicate.generateJPAPredicate(criteriaBuilder, root));
+			else jpaPredicates.add(predicate.generateJPAPredicate(criteriaBuilder, root, criteriaBuilder.parameter(value.getClass(), QUERY_PARAMETER_PREFIX + index)));
+		}
+		
+		// Ajout de la conjonction
+		criteriaQuery.where(jpaPredicates.toArray(new javax.persistence.criteria.Predicate[0]));
+	}
+	
+	/**
+	 * Méthode de positionnement des paramètres des prédicats d'une requete construite par {@link #addParameterizedPredicates(CriteriaBuilder, Root, CriteriaQuery, List)}
+	 * @param query	Requete
+	 * @param predicates	Liste des predicats
+	 */
+	protected void bindPredicateParameters(Query query, List<Predicate> predicates) {
+		
+		// Si la liste de predicats est vide
+		if(predicates == null || predicates.size() == 0) return;
+		
+		// Parcours de la liste
+		for (int index = 0; index < predicates.size(); index++) {
+			
+			// Valeur du paramètre
+			Object value = ((ParameterizedPredicate) predicates.get(index)).getParameterValue();
+			
+			// Positionnement du paramètre
+			if(value != null) query.setParameter(QUERY_PARAMETER_PREFIX + index, value);
+		}
+	}
+	
+	/**
+	 * Méthode de construction de la forme d'une requete : type de requete, forme des prédicats (type, propriété et type de valeur),
+	 * ordres de tri et propriétés chargées, indépendamment des valeurs des prédicats
+	 * @param queryType	Type de requete
+	 * @param predicates	Liste des prédicats
+	 * @param orders	Ordres de tri
+	 * @param properties	Propriétés à charger
+	 * @return	Forme de la requete (null si un prédicat n'est pas paramétrable ou si le cache est désactivé)
+	 */
+	protected String buildQueryShape(String queryType, List<Predicate> predicates, Map<String, OrderType> orders, Set<String> properties) {
+		
+		// Si le cache est désactivé
+		if(queryCache.getMaxSize() <= 0) return null;
+		
+		// Forme de la requete
+		StringBuilder shape = new StringBuilder(queryType);
+		
+		// Forme des prédicats
+		shape.append("|where:");
+		
+		// Si des prédicats sont demandés
+		if(predicates != null) {
+			
+			// Parcours des prédicats
+			for (Predicate predicate : predicates) {
+				
+				// Si le prédicat n'est pas paramétrable
+				if(!(predicate instanceof ParameterizedPredicate)) return null;
+				
+				// Forme du prédicat
+				String predicateShape = ((ParameterizedPredicate) predicate).getShape();
+				
+				// Si la forme est inconnue
+				if(predicateShape == null) return null;
+				
+				// Valeur du paramètre
+				Object value = ((ParameterizedPredicate) predicate).getParameterValue();
+				
+				// Ajout de la forme du prédicat et du type de sa valeur
+				shape.append(predicateShape).append(value == null ? "" : "?" + value.getClass().getName()).append(';');
+			}
+		}
+		
+		// Ordres de tri
+		shape.append("|orderBy:");
+		
+		// Si des ordres sont demandés
+		if(orders != null) {
+			
+			// Parcours des ordres (dans leur ordre de déclaration)
+			for (Entry<String, OrderType> order : orders.entrySet()) {
+				
+				// Si la propriete ou le type est vide
+				if(order.getKey() == null || order.getKey().trim().length() == 0 || order.getValue() == null) continue;
+				
+				// Ajout de l'ordre
+				shape.append(order.getKey().trim()).append(' ').append(order.getValue()).append(';');
+			}
+		}
+		
+		// Propriétés chargées
+		shape.append("|fetch:");
+		
+		// Si des propriétés sont demandées
+		if(properties != null) {
+			
+			// Propriétés triées
+			Set<String> sortedProperties = new TreeSet<String>();
+			
+			// Parcours des propriétés
+			for (String property : properties) {
+				
+				// Ajout de la propriété
+				if(property != null && property.trim().length() > 0) sortedProperties.add(property.trim());
+			}
+			
+			// Ajout des propriétés
+			for (String property : sortedProperties) shape.append(property).append(';');
+		}
+		
+		// On retourne la forme
+		return shape.toString();
+	}
+	
+	/**
+	 * Méthode de création d'une requete à partir de sa requete par critères en cache
+	 * @param <Q>	Type du résultat
+	 * @param queryShape	Forme de la requete
+	 * @param resultClass	Classe du résultat
+	 * @return	Requete (null si la forme est nulle ou absente du cache)
+	 */
+	@SuppressWarnings("unchecked")
+	protected <Q> TypedQuery<Q> createCachedQuery(String queryShape, Class<Q> resultClass) {
+		
+		// Si la forme est nulle
+		if(queryShape == null) return null;
+		
+		// Requete par critères en cache
+		CriteriaQuery<?> criteriaQuery = queryCache.get(queryShape);
+		
+		// Si la requete n'est pas en cache
+		if(criteriaQuery == null) return null;
+		
+		// On retourne la requete (la forme détermine le type du résultat)
+		return getEntityManager().createQuery((CriteriaQuery<Q>) criteriaQuery);
+	}
+	
+	/**
+	 * Méthode de mise en cache d'une requete par critères, afin que sa construction ne soit pas refaite.
+	 * La requete doit avoir déjà servi à créer une requete JPA (ses alias sont alors fixés) : elle n'est ensuite plus que lue
+	 * @param queryShape	Forme de la requete
+	 * @param criteriaQuery	Requete par critères (paramètres non positionnés)
+	 */
+	protected void registerCachedQuery(String queryShape, CriteriaQuery<?> criteriaQuery) {
+		
+		// Si la forme est nulle
+		if(queryShape == null) return;
+		
+		// Mise en cache
+		queryCache.putIfAbsent(queryShape, criteriaQuery);
+	}
+	
+	/**
+	 * Methode d'ajout des Proprietes a charger a la requete de recherche
+	 * @param root	Entités objet du from
+	 * @param properties	Conteneur de propriétés
+	 */
+	protected void addProperties(Root<T> root, Set<String> properties) {
+		
+		// Si le conteneur est vide
+		if(properties == null || properties.size() == 0) return;
+		
+		// Parcours du conteneur
+		for (String property : properties) {
+			
+			// Si la ppt est nulle ou vide
+			if(property == null || property.trim().length() == 0) continue;
+			
+			// On split
+			String[] hierarchicalPaths = property.split("\\.");
+			
+			// Le fetch de depart
+			FetchParent<?, ?> fetch = root;
+			
+			// Parcours de la liste
+			for (String path : hierarchicalPaths) {
+				
+				// Si la propriete est vide
+				if(path == null || path.trim().isEmpty()) continue;
+				
+				// chargement de cette hierarchie
+				fetch = fetch.fetch(path.trim(), JoinType.LEFT);
+			}
+		}
+	}
+
+	/**
+	 * Methode d'ajout des Proprietes a charger a la requete de recherche
+	 * @param root	Entités objet du from
+	 * @param query Requete sur l'entité
+	 * @param properties	Conteneur de propriétés
+	 */
+	protected void addProperties(Root<T> root, CriteriaQuery<T> query, Set<String> properties) {
+		
+		// Ajout des ppt
+		addProperties(root, properties);
+		
+		// On positionne le distict
+		query.distinct(true);
+	}
+	
+	/**
+	 * Méthode de construction des clés de tri d'une pagination par clés : ordres demandés (dans leur ordre de déclaration),
+	 * complétés par l'ID en dernier critère afin que l'ordre soit total
+	 * @param orders	Ordres de tri demandés
+	 * @return	Clés de tri
+	 */
+	protected Map<String, OrderType> buildKeysetOrders(Map<String, OrderType> orders) {
+		
+		// Clés de tri
+		Map<String, OrderType> keysetOrders = new LinkedHashMap<String, OrderType>();
+		
+		// Si des ordres sont demandés
+		if(orders != null) {
+			
+			// Parcours des ordres
+			for (Entry<String, OrderType> order : orders.entrySet()) {
+				
+				// Si la propriete ou le type est vide
+				if(order.getKey() == null || order.getKey().trim().length() == 0 || order.getValue() == null) continue;
+				
+				// Ajout de la clé
+				keysetOrders.put(order.getKey().trim(), order.getValue());
+			}
+		}
+		
+		// Nom de la propriété ID
+		String entityIDName = getEntityIDName();
+		
+		// Ajout de l'ID en dernier critère de tri
+		if(!keysetOrders.containsKey(entityIDName)) keysetOrders.put(entityIDName, OrderType.ASC);
+		
+		// On retourne les clés de tri
+		return keysetOrders;
+	}
+	
+	/**
+	 * Méthode de construction des ordres JPA de la pagination par clés. Le placement des valeurs nulles variant selon
+	 * la base de données, chaque clé pouvant etre nulle est précédée d'un ordre sur son indicateur de nullité :
+	 * les valeurs nulles sont en tete en ASC et en queue en DSC (elles sont considérées comme les plus petites)
+	 * @param criteriaBuilder	Constructeur de critères
+	 * @param root	Racine de la requete
+	 * @param keysetOrders	Clés de tri
+	 * @return	Liste des ordres JPA
+	 */
+	protected List<Order> buildKeysetOrders(CriteriaBuilder criteriaBuilder, Root<T> root, Map<String, OrderType> keysetOrders) {
+		
+		// Liste d'ordres
+		List<Order> orders = new ArrayList<Order>();
+		
+		// Parcours des clés de tri
+		for (Entry<String, OrderType> order : keysetOrders.entrySet()) {
+			
+			// Chemin de la clé
+			Path<?> path = buildPropertyPathForAnyType(root, order.getKey());
+			
+			// Sens du tri
+			boolean ascending = OrderType.ASC.equals(order.getValue());
+			
+			// Si la clé peut etre nulle, ordre sur l'indicateur de nullité (0 si nulle, 1 sinon)
+			if(isNullableProperty(order.getKey())) {
+				
+				// Indicateur de nullité
+				Expression<Integer> nullFlag = criteriaBuilder.<Integer>selectCase().when(criteriaBuilder.isNull(path), 0).otherwise(1);
+				
+				// Ajout de l'ordre
+				orders.add(ascending ? criteriaBuilder.asc(nullFlag) : criteriaBuilder.desc(nullFlag));
+			}
+			
+			// Ordre sur la clé
+			orders.add(ascending ? criteriaBuilder.asc(path) : criteriaBuilder.desc(path));
+		}
+		
+		// On retourne les ordres
+		return orders;
+	}
+	
+	/**
+	 * Méthode permettant de savoir si une propriété (éventuellement pointée) peut etre nulle, d'après le métamodèle
+	 * @param property	Chemin de la propriété
+	 * @return	Etat de nullité possible (vrai si le métamodèle ne permet pas de conclure)
+	 */
+	protected boolean isNullableProperty(String property) {
+		
+		try {
+			
+			// Type courant
+			ManagedType<?> type = getEntityManager().getMetamodel().managedType(entityClass);
+			
+			// Parcours des segments du chemin
+			for (String segment : property.trim().split("\\.")) {
+				
+				// Attribut du segment
+				Attribute<?, ?> attribute = type.getAttribute(segment.trim());
+				
+				// S'il ne s'agit pas d'un attribut simple
+				if(!(attribute instanceof SingularAttribute)) return true;
+				
+				// Attribut simple
+				SingularAttribute<?, ?> singularAttribute = (SingularAttribute<?, ?>) attribute;
+				
+				// Si l'attribut est optionnel (hors ID et version)
+				if(!singularAttribute.isId() && !singularAttribute.isVersion() && singularAttribute.isOptional()) return true;
+				
+				// Type du segment suivant
+				if(singularAttribute.getType() instanceof ManagedType) type = (ManagedType<?>) singularAttribute.getType();
+			}
+			
+			// Aucun segment ne peut etre nul
+			return false;
+			
+		} catch (RuntimeException e) {
+			
+			// Nullité indéterminée
+			return true;
+		}
+	}
+	
+	/**
+	 * Méthode de construction du prédicat de positionnement strictement après les valeurs de clés d'un curseur :
+	 * (k1, k2, ..., id) &gt; (v1, v2, ..., vid) est développé en (k1 &gt; v1) OR (k1 = v1 AND k2 &gt; v2) OR ..., 
+	 * le sens de chaque comparaison suivant l'ordre de tri de la clé (les valeurs nulles sont considérées comme les plus petites)
+	 * @param criteriaBuilder	Constructeur de critères
+	 * @param root	Racine de la requete
+	 * @param keysetOrders	Clés de tri
+	 * @param values	Valeurs des clés de tri
+	 * @return	Prédicat JPA
+	 */
+	@SuppressWarnings("unchecked")
+	protected javax.persistence.criteria.Predicate buildKeysetPredicate(CriteriaBuilder criteriaBuilder, Root<T> root, Map<String, OrderType> keysetOrders, List<Object> values) {
+		
+		// Disjonction des conditions
+		List<javax.persistence.criteria.Predicate> disjunction = new ArrayList<javax.persistence.criteria.Predicate>();
+		
+		// Egalités sur les clés précédentes
+		List<javax.persistence.criteria.Predicate> equalities = new ArrayList<javax.persistence.criteria.Predicate>();
+		
+		// Index de la clé
+		int index = 0;
+		
+		// Parcours des clés de tri
+		for (Entry<String, OrderType> order : keysetOrders.entrySet()) {
+			
+			// Chemin de la clé
+			Expression<Comparable<Object>> path = (Expression<Comparable<Object>>) buildPropertyPathForAnyType(root, order.getKey());
+			
+			// Valeur de la clé
+			Comparable<Object> value = (Comparable<Object>) values.get(index++);
+			
+			// Condition stricte sur la clé courante
+			javax.persistence.criteria.Predicate comparison = null;
+			
+			// Si la valeur est nulle (plus petite que toute valeur)
+			if(value == null) comparison = OrderType.ASC.equals(order.getValue()) ? criteriaBuilder.isNotNull(path) : null;
+			
+			// Sinon, si on est en ASC
+			else if(OrderType.ASC.equals(order.getValue())) comparison = criteriaBuilder.greaterThan(path, value);
+			
+			// Sinon (DSC : les valeurs nulles suivent)
+			else comparison = criteriaBuilder.or(criteriaBuilder.lessThan(path, value), criteriaBuilder.isNull(path));
+			
+			// Si une condition stricte existe
+			if(comparison != null) {
+				
+				// Conjonction des égalités précédentes et de la condition stricte
+				List<javax.persistence.criteria.Predicate> conjunction = new ArrayList<javax.persistence.criteria.Predicate>(equalities);
+				conjunction.add(comparison);
+				
+				// Ajout dans la disjonction
+				disjunction.add(criteriaBuilder.and(conjunction.toArray(new javax.persistence.criteria.Predicate[0])));
+			}
+			
+			// Egalité sur la clé courante
+			equalities.add(value == null ? criteriaBuilder.isNull(path) : criteriaBuilder.equal(path, value));
+		}
+		
+		// On retourne la disjonction
+		return criteriaBuilder.or(disjunction.toArray(new javax.persistence.criteria.Predicate[0]));
+	}
+	
+	/**
+	 * Méthode de calcul de la taille effective des lots de traitement
+	 * @param batchSize	Taille des lots demandée
+	 * @return	Taille effective des lots
+	 */
+	protected int resolveBatchSize(int batchSize) {
+		
+		// Si la taille demandee est invalide, on prend la taille par defaut de la DAO
+		return batchSize > 0 ? batchSize : this.batchSize;
+	}
+	
+	/**
+	 * Méthode de construction des paramètres de message décrivant un lot en échec
+	 * @param chunkIndex	Index du lot
+	 * @param chunkStart	Index du premier élément du lot
+	 * @param chunkSize	Taille du lot
+	 * @return	Paramètres du message (index du lot, premier et dernier élément)
+	 */
+	protected String[] buildChunkParameters(int chunkIndex, int chunkStart, int chunkSize) {
+		
+		// On retourne les parametres
+		return new String[] {String.valueOf(chunkIndex), String.valueOf(chunkStart), String.valueOf(chunkStart + chunkSize - 1)};
+	}
+
+	/**
+	 * Méthode d'obtention du nom de la propriété ID de l'entité gérée (lu dans le métamodèle JPA)
+	 * @return	Nom de la propriété ID
+	 */
+	protected String getEntityIDName() {
+		
+		// On retourne le nom de la propriété ID de l'entité gérée
+		return getEntityIDName(entityClass);
+	}
+
+	/**
+	 * Méthode d'obtention du nom de la propriété ID d'une entité (lu dans le métamodèle JPA)
+	 * @param type	Classe de l'entité
+	 * @return	Nom de la propriété ID
+	 */
+	protected String getEntityIDName(Class<?> type) {
+
+		// Type de l'entité dans le métamodèle
+		EntityType<?> entityType = getEntityManager().getMetamodel().entity(type);
+
+		// Si l'entité n'a pas d'ID simple
+		if(!entityType.hasSingleIdAttribute()) throw new JPersistenceToolsException("jpagenericdaorulesbased.entityid.notsingle");
+
+		// Parcours des attributs simples
+		for (SingularAttribute<?, ?> attribute : entityType.getSingularAttributes()) {
+
+			// Si c'est l'ID
+			if(attribute.isId()) return attribute.getName();
+		}
+
+		// On leve une exception
+		throw new JPersistenceToolsException("jpagenericdaorulesbased.entityid.notsingle");
+	}
+
+	/**
+	 * Méthode d'obtention du nom de la propriété version (numérique) de l'entité gérée
+	 * @return	Nom de la propriété version (null si l'entité n'est pas versionnée ou si sa version n'est pas numérique)
+	 */
+	protected String getEntityVersionName() {
+		
+		// Type de l'entité dans le métamodèle
+		EntityType<T> entityType = getEntityManager().getMetamodel().entity(entityClass);
+		
+		// Parcours des attributs simples
+		for (SingularAttribute<? super T, ?> attribute : entityType.getSingularAttributes()) {
+			
+			// Si c'est la version numérique
+			if(attribute.isVersion() && Number.class.isAssignableFrom(wrap(attribute.getJavaType()))) return attribute.getName();
+		}
+		
+		// Le métamodèle ne signale pas toujours une version héritée d'une super-classe mappée : on inspecte les champs
+		for (Field field : DAOValidatorHelper.getAllFields(entityClass, false)) {
+			
+			// Si c'est la version numérique
+			if(field.isAnnotationPresent(Version.class) && Number.class.isAssignableFrom(wrap(field.getType()))) return field.getName();
+		}
+		
+		// Entité non versionnée (ou version non numérique)
+		return null;
+	}
+	
+	/**
+	 * Méthode d'obtention du type enveloppe d'un type primitif numérique
+	 * @param type	Type
+	 * @return	Type enveloppe (le type lui-même s'il n'est pas primitif)
+	 */
+	private Class<?> wrap(Class<?> type) {
+		
+		// Types primitifs de version supportés
+		if(int.class.equals(type)) return Integer.class;
+		if(long.class.equals(type)) return Long.class;
+		if(short.class.equals(type)) return Short.class;
+		
+		// On retourne le type
+		return type;
+	}
+	
+	/**
+	 * Méthode de copie superficielle (hors contexte de persistance) des attributs persistants d'une entité
+	 * @param entity	Entité (éventuellement un proxy)
+	 * @return	Copie de l'entité
+	 */
+	@SuppressWarnings("unchecked")
+	protected T copyEntity(T entity) {
+		
+		// Classe réelle de l'entité (la classe d'un proxy est une sous-classe inconnue du métamodèle)
+		Class<?> type = entity.getClass();
+		while(!isManagedClass(type)) type = type.getSuperclass();
+		
+		try {
+			
+			// Instanciation de la copie
+			T copy = (T) type.newInstance();
+			
+			// Recopie des attributs persistants
+			for (Attribute<?, ?> attribute : getEntityManager().getMetamodel().managedType(type).getAttributes()) setPropertyValue(copy, attribute.getName(), getPropertyValue(entity, attribute.getName()));
+			
+			// On retourne la copie
+			return copy;
+			
+		} catch (InstantiationException | IllegalAccessException e) {
+			
+			// On relance
+			throw new JPersistenceToolsException("jpagenericdaorulesbased.entity.copy.error", new String[] {type.getName()}, e);
+		}
+	}
+	
+	/**
+	 * Méthode d'application (hors contexte de persistance) de nouvelles valeurs aux propriétés d'une entité
+	 * @param entity	Entité
+	 * @param assignments	Map des nouvelles valeurs, indexées par chemin de propriété
+	 */
+	protected void applyAssignments(Object entity, Map<String, Object> assignments) {
+		
+		// Parcours des affectations
+		for (Entry<String, Object> assignment : assignments.entrySet()) {
+			
+			// Chemin de la propriété
+			String[] hierarchicalPaths = assignment.getKey().trim().split("\\.");
+			
+			// Objet portant la propriété
+			Object target = entity;
+			
+			try {
+				
+				// Parcours du chemin
+				for (int i = 0; i < hierarchicalPaths.length && target != null; i++) {
+					
+					// Champ correspondant
+					Field field = findField(target.getClass(), hierarchicalPaths[i].trim());
+					
+					// Accessibilité
+					field.setAccessible(true);
+					
+					// Si c'est le dernier élément, on affecte la valeur ; sinon on descend
+					if(i == hierarchicalPaths.length - 1) field.set(target, assignment.getValue());
+					else target = field.get(target);
+				}
+				
+			} catch (Exception e) {
+				
+				// On relance
+				throw new JPersistenceToolsException("jpagenericdaorulesbased.updatewhere.assignment.invalid", new String[] {assignment.getKey()}, e);
+			}
+		}
+	}
+	
+	/**
+	 * Méthode de recherche d'un champ dans la hiérarchie d'une classe
+	 * @param type	Classe
+	 * @param fieldName	Nom du champ
+	 * @return	Champ trouvé
+	 * @throws NoSuchFieldException	Si le champ n'existe pas
+	 */
+	private Field findField(Class<?> type, String fieldName) throws NoSuchFieldException {
+		
+		// Parcours des champs de la hiérarchie
+		for (Field field : DAOValidatorHelper.getAllFields(type, false)) {
+			
+			// Si c'est le champ recherché
+			if(field.getName().equals(fieldName)) return field;
+		}
+		
+		// Champ inexistant
+		throw new NoSuchFieldException(fieldName);
+	}
+	
+	/**
+	 * Méthode de création d'un paramètre de requete portant la liste des valeurs d'une clause IN
+	 * @param criteriaBuilder	Constructeur de critères
+	 * @param name	Nom du paramètre
+	 * @return	Paramètre de type liste
+	 */
+	@SuppressWarnings("unchecked")
+	protected ParameterExpression<List<?>> createListParameter(CriteriaBuilder criteriaBuilder, String name) {
+		
+		// Type liste (le type générique n'est pas représentable par un littéral de classe)
+		Class<List<?>> listClass = (Class<List<?>>) (Class<?>) List.class;
+		
+		// On retourne le paramètre
+		return criteriaBuilder.parameter(listClass, name);
+	}
+	
+	/**
+	 * Méthode de chargement, en une seule requete IN, des entités correspondant à une liste d'ID
+	 * @param ids	Liste des ID
+	 * @return	Map des entités trouvées (managées), indexées par leur ID
+	 */
+	protected Map<Object, T> loadEntitiesByIds(Collection<?> ids) {
+
+		// Map des entités trouvées
+		Map<Object, T> entities = new HashMap<Object, T>();
+
+		// Si la liste est vide
+		if(ids == null || ids.isEmpty()) return entities;
+
+		// Criteria Builder
+		CriteriaBuilder criteriaBuilder = getEntityManager().getCriteriaBuilder();
+
+		// Création du constructeur de requete par critères
+		CriteriaQuery<T> criteriaQuery = criteriaBuilder.createQuery(entityClass);
+
+		// Construction de la racine
+		Root<T> root = criteriaQuery.from(entityClass);
+
+		// Select Clause
+		criteriaQuery.select(root);
+
+		// Paramètre
+		ParameterExpression<List<?>> idsParameter = createListParameter(criteriaBuilder, "ids");
+
+		// Condition sur les ID
+		criteriaQuery.where(root.get(getEntityIDName()).in(idsParameter));
+
+		// Requete basée sur les critères
+		TypedQuery<T> query = getEntityManager().createQuery(criteriaQuery);
+
+		// Positionnement du Paramètre
+		query.setParameter("ids", new ArrayList<Object>(ids));
+
+		// Utilitaire d'unité de persistance
+		PersistenceUnitUtil persistenceUnitUtil = getEntityManager().getEntityManagerFactory().getPersistenceUnitUtil();
+
+		// Indexation des entités par leur ID
+		for (T entity : query.getResultList()) entities.put(persistenceUnitUtil.getIdentifier(entity), entity);
+
+		// On retourne les entités
+		return entities;
+	}
+
+	/**
+	 * Méthode de chargement des entités dont une propriété prend ses valeurs dans une collection, par listes IN
+	 * de la taille des lots de la DAO (une requete compilée en cache par forme)
+	 * @param queryType	Type de requete (utilisé dans la forme de la requete)
+	 * @param propertyName	Nom de la propriété
+	 * @param values	Valeurs de la propriété (sans doublon ni valeur nulle)
+	 * @param properties	Ensemble des proprietes a charger en EAGER
+	 * @return	Map des entités trouvées indexées par la valeur de la propriété
+	 */
+	protected Map<Object, T> loadEntitiesByProperty(String queryType, String propertyName, Collection<?> values, Set<String> properties) {
+		
+		// Map des entités trouvées
+		Map<Object, T> entities = new LinkedHashMap<Object, T>();
+		
+		// Si la collection est vide
+		if(values == null || values.isEmpty()) return entities;
+		
+		// Forme de la requete
+		String queryShape = buildQueryShape(queryType, null, null, properties);
+		
+		// Parcours des lots
+		for (List<?> chunk : ConverterUtil.partitionCollection(values, batchSize)) {
+			
+			// Requete compilée en cache
+			TypedQuery<T> query = createCachedQuery(queryShape, entityClass);
+			
+			// Si la requete n'est pas en cache
+			if(query == null) {
+				
+				// Criteria Builder
+				CriteriaBuilder criteriaBuilder = getEntityManager().getCriteriaBuilder();
+				
+				// Création du constructeur de requete par critères
+				CriteriaQuery<T> criteriaQuery = criteriaBuilder.createQuery(entityClass);
+				
+				// Construction de la racine
+				Root<T> root = criteriaQuery.from(entityClass);
+				
+				// Select Clause
+				criteriaQuery.select(root);
+				
+				// Paramètre
+				ParameterExpression<List<?>> valuesParameter = createListParameter(criteriaBuilder, QUERY_PARAMETER_PREFIX);
+				
+				// Condition sur les valeurs
+				criteriaQuery.where(root.get(propertyName).in(valuesParameter));
+				
+				// Chargement des associations simples
+				addSingularProperties(root, properties);
+				
+				// Requete basée sur les critères
+				query = getEntityManager().createQuery(criteriaQuery);
+				
+				// Mise en cache de la requete
+				registerCachedQuery(queryShape, criteriaQuery);
+			}
+			
+			// Positionnement du Paramètre
+			query.setParameter(QUERY_PARAMETER_PREFIX, chunk);
+			
+			// Résultat du lot
+			List<T> results = query.getResultList();
+			
+			// Chargement des collections demandées par une requete secondaire
+			loadCollections(results, properties);
+			
+			// Parcours du résultat
+			for (T entity : results) {
+				
+				try {
+					
+					// Indexation de l'entité par la valeur de la propriété
+					entities.put(DAOValidatorHelper.evaluateValueExpression("${" + propertyName + "}", entity), entity);
+					
+				} catch (Exception e) {
+					
+					// On relance
+					throw new JPersistenceToolsException("convertCollectionToMap.error", e);
+				}
+			}
+		}
+		
+		// On retourne les entités
+		return entities;
+	}
+	
+	/**
+	 * Méthode de vérification qu'une propriété est l'ID mappé de l'entité et qu'une valeur est du type de cet ID
+	 * @param propertyName	Nom de la propriété
+	 * @param value	Valeur
+	 * @return	Etat de correspondance (faux si l'entité n'a pas d'ID simple)
+	 */
+	protected boolean isEntityID(String propertyName, Object value) {
+		
+		// Type de l'entité dans le métamodèle
+		EntityType<T> entityType = getEntityManager().getMetamodel().entity(entityClass);
+		
+		// Si l'entité n'a pas d'ID simple
+		if(!entityType.hasSingleIdAttribute()) return false;
+		
+		// Parcours des attributs simples
+		for (SingularAttribute<? super T, ?> attribute : entityType.getSingularAttributes()) {
+			
+			// Si c'est l'ID
+			if(attribute.isId()) return attribute.getName().equals(propertyName) && wrap(attribute.getJavaType()).isInstance(value);
+		}
+		
+		// L'ID n'est pas trouvé
+		return false;
+	}
+	
+	/**
+	 * Méthode de construction d'un graphe d'entité à partir d'un ensemble de chemins de propriétés
+	 * (les chemins hiérarchiques "a.b.c" donnent des sous-graphes imbriqués)
+	 * @param properties	Ensemble des proprietes a charger
+	 * @return	Graphe d'entité (null si le fournisseur ne sait pas le construire)
+	 */
+	protected EntityGraph<T> buildEntityGraph(Set<String> properties) {
+		
+		try {
+			
+			// On retourne le graphe construit par le conteneur de propriétés
+			return PropertyContainer.newInstance().addAll(properties).toEntityGraph(getEntityManager(), entityClass);
+			
+		} catch (RuntimeException e) {
+			
+			// Graphe non supporté par le fournisseur (ex : sous-graphe sur un attribut hérité d'une super-classe mappée)
+			return null;
+		}
+	}
+	
+	/**
+	 * Méthode d'ajout des jointures de chargement des propriétés demandées qui ne traversent pas de collection :
+	 * ces associations simples ne dupliquent pas les lignes, la pagination reste donc appliquée par la base et le DISTINCT est inutile
+	 * (les collections sont chargées par {@link #loadCollections(Collection, Set)})
+	 * @param root	Entités objet du from
+	 * @param properties	Ensemble des proprietes a charger en EAGER
+	 */
+	protected void addSingularProperties(Root<T> root, Set<String> properties) {
+		
+		// Si le conteneur est vide
+		if(properties == null || properties.isEmpty()) return;
+		
+		// Associations simples
+		Set<String> singularProperties = new LinkedHashSet<String>();
+		
+		// Parcours des propriétés
+		for (String property : properties) {
+			
+			// Si la propriété ne traverse pas de collection
+			if(property != null && !PropertyContainer.isCollectionPath(getEntityManager().getMetamodel(), entityClass, property)) singularProperties.add(property);
+		}
+		
+		// Ajout des jointures de chargement
+		addProperties(root, singularProperties);
+	}
+	
+	/**
+	 * Méthode de vérification qu'un ensemble de propriétés à charger contient un chemin traversant une collection
+	 * @param properties	Ensemble des proprietes a charger en EAGER
+	 * @return	Etat de présence d'une collection
+	 */
+	protected boolean hasCollectionPath(Set<String> properties) {
+		
+		// Si le conteneur est vide
+		if(properties == null || properties.isEmpty()) return false;
+		
+		// Parcours des propriétés
+		for (String property : properties) {
+			
+			// Si la propriété traverse une collection
+			if(PropertyContainer.isCollectionPath(getEntityManager().getMetamodel(), entityClass, property)) return true;
+		}
+		
+		// Aucune collection
+		return false;
+	}
+	
+	/**
+	 * Méthode de filtre paginé en deux phases : la première pagine sur les seuls ID (prédicats et ordres appliqués, 
+	 * pagination faite par la base), la seconde charge les entités de la page par des requetes IN sur ces ID (par lots), avec leurs
+	 * associations simples et leur première collection, puis rétablit l'ordre de la première phase (les autres collections 
+	 * sont chargées chacune par sa propre requete IN). Le volume transféré reste ainsi borné par la taille de la page, 
+	 * meme lorsque des collections sont chargées
+	 * @param predicates	Liste des prédicats
+	 * @param orders	Map des Ordre de tri
+	 * @param properties	Ensemble des proprietes a charger en EAGER
+	 * @param firstResult	Index du premier resultat
+	 * @param maxResult	Nombre maximum de resultat
+	 * @return	Liste des entités de la page
+	 */
+	protected List<T> filterTwoPhase(List<Predicate> predicates, Map<String, OrderType> orders, Set<String> properties, int firstResult, int maxResult) {
+		
+		// Nom de la propriété ID
+		String entityIDName = getEntityIDName();
+		
+		// Forme de la requete des ID
+		String idsQueryShape = buildQueryShape("filterIds", predicates, orders, null);
+		
+		// Requete compilée en cache
+		TypedQuery<Object> idsQuery = createCachedQuery(idsQueryShape, Object.class);
+		
+		// Si la requete n'est pas en cache
+		if(idsQuery == null) {
+			
+			// Criteria Builder
+			CriteriaBuilder criteriaBuilder = getEntityManager().getCriteriaBuilder();
+			
+			// Requete de criteres
+			CriteriaQuery<Object> criteriaQuery = criteriaBuilder.createQuery(Object.class);
+			
+			// Construction de la racine
+			Root<T> root = criteriaQuery.from(entityClass);
+			
+			// On positionne l'Alias
+			root.alias(ROOT_ALIAS);
+			
+			// Selection de l'ID
+			criteriaQuery.select(root.get(entityIDName));
+			
+			// Ajout des Prédicats (paramétrés si la requete peut etre mise en cache)
+			if(idsQueryShape != null) addParameterizedPredicates(criteriaBuilder, root, criteriaQuery, predicates);
+			else addPredicates(criteriaBuilder, root, criteriaQuery, predicates);
+			
+			// Ajout des Odres
+			if(orders != null && !orders.isEmpty()) criteriaQuery.orderBy(buildOrders(criteriaBuilder, root, orders));
+			
+			// Construction de la requete basée sur les critères
+			idsQuery = getEntityManager().createQuery(criteriaQuery);
+			
+			// Mise en cache de la requete
+			registerCachedQuery(idsQueryShape, criteriaQuery);
+		}
+		
+		// Positionnement des paramètres des prédicats
+		if(idsQueryShape != null) bindPredicateParameters(idsQuery, predicates);
+		
+		// Fenetre de la page
+		idsQuery.setFirstResult(firstResult < 0 ? 0 : firstResult);
+		idsQuery.setMaxResults(maxResult);
+		
+		// Phase 1 : ID de la page
+		List<Object> entityIDs = idsQuery.getResultList();
+		
+		// Si la page est vide
+		if(entityIDs.isEmpty()) return new ArrayList<T>();
+		
+		// Chemins de collections (le premier est chargé avec les entités, les suivants par leur propre requete)
+		List<String> collectionPaths = getCollectionPaths(properties);
+		
+		// Forme de la requete de chargement
+		String queryShape = buildQueryShape("filterByIds", null, null, properties);
+		
+		// Requete compilée en cache
+		TypedQuery<T> query = createCachedQuery(queryShape, entityClass);
+		
+		// Si la requete n'est pas en cache
+		if(query == null) {
+			
+			// Criteria Builder
+			CriteriaBuilder criteriaBuilder = getEntityManager().getCriteriaBuilder();
+			
+			// Création du constructeur de requete par critères
+			CriteriaQuery<T> criteriaQuery = criteriaBuilder.createQuery(entityClass);
+			
+			// Construction de la racine
+			Root<T> root = criteriaQuery.from(entityClass);
+			
+			// Select Clause
+			criteriaQuery.select(root);
+			
+			// Paramètre
+			ParameterExpression<List<?>> idsParameter = createListParameter(criteriaBuilder, QUERY_PARAMETER_PREFIX);
+			
+			// Condition sur les ID
+			criteriaQuery.where(root.get(entityIDName).in(idsParameter));
+			
+			// Chargement des associations simples
+			addSingularProperties(root, properties);
+			
+			// Chargement de la première collection (sans pagination : la jointure est sans risque)
+			addProperties(root, criteriaQuery, Collections.singleton(collectionPaths.get(0)));
+			
+			// Requete basée sur les critères
+			query = getEntityManager().createQuery(criteriaQuery);
+			
+			// Mise en cache de la requete
+			registerCachedQuery(queryShape, criteriaQuery);
+		}
+		
+		// Utilitaire d'unité de persistance
+		PersistenceUnitUtil persistenceUnitUtil = getEntityManager().getEntityManagerFactory().getPersistenceUnitUtil();
+		
+		// Phase 2 : entités de la page indexées par leur ID
+		Map<Object, T> entities = new HashMap<Object, T>();
+		
+		// Parcours des ID de la page par lots (liste IN bornée par la taille des lots)
+		for (List<?> chunk : ConverterUtil.partitionCollection(entityIDs, batchSize)) {
+			
+			// Positionnement du Paramètre
+			query.setParameter(QUERY_PARAMETER_PREFIX, chunk);
+			
+			// Indexation des entités du lot
+			for (T entity : query.getResultList()) entities.put(persistenceUnitUtil.getIdentifier(entity), entity);
+		}
+		
+		// Résultat dans l'ordre de la phase 1
+		List<T> results = new ArrayList<T>(entityIDs.size());
+		
+		// Parcours des ID
+		for (Object entityID : entityIDs) {
+			
+			// Entité correspondante
+			T entity = entities.get(entityID);
+			
+			// Si elle existe toujours (elle a pu etre supprimée entre les deux phases)
+			if(entity != null) results.add(entity);
+		}
+		
+		// Chargement des autres collections, chacune par sa propre requete (pas de produit cartésien)
+		loadCollectionPaths(results, collectionPaths.subList(1, collectionPaths.size()));
+		
+		// On retourne le résultat
+		return results;
+	}
+	
+	/**
+	 * Méthode d'obtention des chemins de collections à charger : chemins traversant une collection, triés, 
+	 * sans ceux qui sont préfixes d'un autre chemin demandé (ex : "groups" est couvert par "groups.roles")
+	 * @param properties	Ensemble des proprietes a charger en EAGER
+	 * @return	Liste des chemins de collections
+	 */
+	protected List<String> getCollectionPaths(Set<String> properties) {
+		
+		// Chemins traversant une collection (triés pour une forme de requete stable)
+		TreeSet<String> collectionPaths = new TreeSet<String>();
+		
+		// Si le conteneur est vide
+		if(properties == null || properties.isEmpty()) return new ArrayList<String>(collectionPaths);
+		
+		// Parcours des propriétés
+		for (String property : properties) {
+			
+			// Si la propriété traverse une collection
+			if(PropertyContainer.isCollectionPath(getEntityManager().getMetamodel(), entityClass, property)) collectionPaths.add(property.trim());
+		}
+		
+		// Chemins retenus
+		List<String> paths = new ArrayList<String>();
+		
+		// Parcours des chemins
+		for (String path : collectionPaths) {
+			
+			// Chemin suivant dans l'ordre de tri (un chemin prolongeant celui-ci le suit immédiatement)
+			String next = collectionPaths.higher(path);
+			
+			// Si le chemin n'est pas couvert par un chemin plus long
+			if(next == null || !next.startsWith(path + ".")) paths.add(path);
+		}
+		
+		// On retourne les chemins
+		return paths;
+	}
+	
+	/**
+	 * Méthode de chargement des propriétés demandées qui traversent une collection, pour des entités déjà chargées
+	 * (voir {@link #loadCollectionPaths(Collection, List)})
+	 * @param entities	Entités chargées
+	 * @param properties	Ensemble des proprietes a charger en EAGER
+	 */
+	protected void loadCollections(Collection<T> entities, Set<String> properties) {
+		
+		// Si aucune entité n'est chargée ou si le conteneur est vide
+		if(entities == null || entities.isEmpty() || properties == null || properties.isEmpty()) return;
+		
+		// Chargement des chemins de collections
+		loadCollectionPaths(entities, getCollectionPaths(properties));
+	}
+	
+	/**
+	 * Méthode de chargement de chemins de collections pour des entités déjà chargées : chaque chemin est chargé par sa propre 
+	 * requete IN sur les ID des entités (par lots de la taille des lots de la DAO), de sorte que deux collections sœurs ne 
+	 * produisent jamais leur produit cartésien. Les collections des entités managées sont initialisées par la requete ; 
+	 * celles des entités détachées sont recopiées depuis les instances chargées
+	 * @param entities	Entités chargées
+	 * @param collectionPaths	Chemins de collections (voir {@link #getCollectionPaths(Set)})
+	 */
+	protected void loadCollectionPaths(Collection<T> entities, List<String> collectionPaths) {
+		
+		// Si aucune entité n'est chargée ou si aucune collection n'est demandée
+		if(entities == null || entities.isEmpty() || collectionPaths == null || collectionPaths.isEmpty()) return;
+		
+		// Utilitaire d'unité de persistance
+		PersistenceUnitUtil persistenceUnitUtil = getEntityManager().getEntityManagerFactory().getPersistenceUnitUtil();
+		
+		// Entités parentes indexées par leur ID
+		Map<Object, T> parents = new LinkedHashMap<Object, T>();
+		
+		// Parcours des entités
+		for (T entity : entities) if(entity != null) parents.put(persistenceUnitUtil.getIdentifier(entity), entity);
+		
+		// Parcours des chemins de collections
+		for (String collectionPath : collectionPaths) {
+			
+			// Propriété portée par les entités parentes
+			String propertyName = collectionPath.split("\\.")[0].trim();
+			
+			// Parcours des lots
+			for (List<Object> chunk : ConverterUtil.partitionCollection(parents.keySet(), batchSize)) {
+				
+				// Criteria Builder
+				CriteriaBuilder criteriaBuilder = getEntityManager().getCriteriaBuilder();
+				
+				// Création du constructeur de requete par critères
+				CriteriaQuery<T> criteriaQuery = criteriaBuilder.createQuery(entityClass);
+				
+				// Construction de la racine
+				Root<T> root = criteriaQuery.from(entityClass);
+				
+				// Select Clause
+				criteriaQuery.select(root);
+				
+				// Condition sur les ID
+				criteriaQuery.where(root.get(getEntityIDName()).in(chunk));
+				
+				// Chargement de la seule collection (jointures de chargement et DISTINCT, sans pagination)
+				addProperties(root, criteriaQuery, Collections.singleton(collectionPath));
+				
+				// Parcours des entités chargées
+				for (T loaded : getEntityManager().createQuery(criteriaQuery).getResultList()) {
+					
+					// Entité parente
+					T parent = parents.get(persistenceUnitUtil.getIdentifier(loaded));
+					
+					// Si la parente est une autre instance (détachée), on y recopie la collection chargée
+					if(parent != null && parent != loaded) copyProperty(loaded, parent, propertyName);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Méthode de recopie de la valeur d'une propriété d'une entité vers une autre instance de la meme entité
+	 * @param source	Entité source
+	 * @param target	Entité cible
+	 * @param propertyName	Nom de la propriété
+	 */
+	protected void copyProperty(T source, T target, String propertyName) {
+		
+		try {
+			
+			// Champ de la propriété
+			Field field = findField(entityClass, propertyName);
+			
+			// Accessibilité
+			field.setAccessible(true);
+			
+			// Recopie de la valeur
+			field.set(target, field.get(source));
+			
+		} catch (Exception e) {
+			
+			// On relance
+			throw new JPersistenceToolsException("jpagenericdaorulesbased.copyproperty.error", new String[] {propertyName}, e);
+		}
+	}
+	
+	/**
+	 * Méthode de chargement d'un niveau d'association simple (ManyToOne / OneToOne) : pour les propriétaires dont la cible 
+	 * n'est pas chargée, les couples (ID du propriétaire, cible) sont sélectionnés par requetes IN sur les ID des propriétaires 
+	 * (la clé étrangère est résolue par la jointure, sans initialiser les proxies) et les cibles chargées remplacent les proxies
+	 * @param owners	Propriétaires (instances réelles ou proxies initialisés)
+	 * @param ownerClass	Classe des propriétaires
+	 * @param propertyName	Nom de l'association
+	 * @return	Cibles distinctes (niveau suivant)
+	 */
+	protected List<Object> loadSingularLevel(List<Object> owners, Class<?> ownerClass, String propertyName) {
+		
+		// Utilitaire d'unité de persistance
+		PersistenceUnitUtil persistenceUnitUtil = getEntityManager().getEntityManagerFactory().getPersistenceUnitUtil();
+		
+		// Propriétaires dont la cible n'est pas chargée, indexés par leur ID
+		Map<Object, Object> unloadedOwners = new LinkedHashMap<Object, Object>();
+		
+		// Parcours des propriétaires
+		for (Object owner : owners) {
+			
+			// Cible (éventuellement un proxy)
+			Object target = getPropertyValue(owner, propertyName);
+			
+			// Si la cible n'est pas chargée
+			if(target != null && !persistenceUnitUtil.isLoaded(target)) unloadedOwners.put(persistenceUnitUtil.getIdentifier(owner), owner);
+		}
+		
+		// Cibles chargées, indexées par leur ID (une seule instance par cible, meme d'un lot à l'autre)
+		Map<Object, Object> targets = new HashMap<Object, Object>();
+		
+		// Nom de la propriété ID des propriétaires
+		String ownerIDName = getEntityIDName(ownerClass);
+		
+		// Parcours des lots d'ID
+		for (List<Object> chunk : ConverterUtil.partitionCollection(unloadedOwners.keySet(), batchSize)) {
+			
+			// Criteria Builder
+			CriteriaBuilder criteriaBuilder = getEntityManager().getCriteriaBuilder();
+			
+			// Création du constructeur de requete par critères
+			CriteriaQuery<Object[]> criteriaQuery = criteriaBuilder.createQuery(Object[].class);
+			
+			// Construction de la racine
+			Root<?> root = criteriaQuery.from(ownerClass);
+			
+			// Sélection de l'ID du propriétaire et de sa cible
+			criteriaQuery.multiselect(root.get(ownerIDName), root.join(propertyName));
+			
+			// Condition sur les ID
+			criteriaQuery.where(root.get(ownerIDName).in(chunk));
+			
+			// Parcours des couples (ID du propriétaire, cible)
+			for (Object[] row : getEntityManager().createQuery(criteriaQuery).getResultList()) {
+				
+				// ID de la cible
+				Object targetID = persistenceUnitUtil.getIdentifier(row[1]);
+				
+				// Instance unique de la cible
+				if(!targets.containsKey(targetID)) targets.put(targetID, row[1]);
+				
+				// Remplacement du proxy chez le propriétaire
+				setPropertyValue(unloadedOwners.get(row[0]), propertyName, targets.get(targetID));
+			}
+		}
+		
+		// On retourne les cibles distinctes
+		return readLevel(owners, propertyName);
+	}
+	
+	/**
+	 * Méthode de chargement d'un niveau de collection : les collections non chargées sont chargées par requetes IN 
+	 * sur les ID de leurs propriétaires (recopiées chez les propriétaires détachés)
+	 * @param owners	Propriétaires (instances réelles ou proxies initialisés)
+	 * @param ownerClass	Classe des propriétaires
+	 * @param propertyName	Nom de la collection
+	 * @return	Eléments distincts des collections (niveau suivant)
+	 */
+	protected List<Object> loadCollectionLevel(List<Object> owners, Class<?> ownerClass, String propertyName) {
+		
+		// Utilitaire d'unité de persistance
+		PersistenceUnitUtil persistenceUnitUtil = getEntityManager().getEntityManagerFactory().getPersistenceUnitUtil();
+		
+		// Propriétaires dont la collection n'est pas chargée, indexés par leur ID
+		Map<Object, Object> unloadedOwners = new LinkedHashMap<Object, Object>();
+		
+		// Parcours des propriétaires
+		for (Object owner : owners) if(!persistenceUnitUtil.isLoaded(owner, propertyName)) unloadedOwners.put(persistenceUnitUtil.getIdentifier(owner), owner);
+		
+		// Parcours des lots d'ID
+		for (List<Object> chunk : ConverterUtil.partitionCollection(unloadedOwners.keySet(), batchSize)) {
+			
+			// Criteria Builder
+			CriteriaBuilder criteriaBuilder = getEntityManager().getCriteriaBuilder();
+			
+			// Création du constructeur de requete par critères
+			CriteriaQuery<Object> criteriaQuery = criteriaBuilder.createQuery(Object.class);
+			
+			// Construction de la racine
+			Root<?> root = criteriaQuery.from(ownerClass);
+			
+			// Select Clause (distinct : la jointure duplique les propriétaires)
+			criteriaQuery.select(root).distinct(true);
+			
+			// Chargement de la collection
+			root.fetch(propertyName, JoinType.LEFT);
+			
+			// Condition sur les ID
+			criteriaQuery.where(root.get(getEntityIDName(ownerClass)).in(chunk));
+			
+			// Parcours des propriétaires chargés
+			for (Object loaded : getEntityManager().createQuery(criteriaQuery).getResultList()) {
+				
+				// Propriétaire d'origine
+				Object owner = unloadedOwners.get(persistenceUnitUtil.getIdentifier(loaded));
+				
+				// Si c'est une autre instance (détachée), on y recopie la collection chargée
+				if(owner != null && owner != loaded) setPropertyValue(owner, propertyName, getPropertyValue(loaded, propertyName));
+			}
+		}
+		
+		// On retourne les éléments des collections
+		return readLevel(owners, propertyName);
+	}
+	
+	/**
+	 * Méthode de lecture d'un niveau : valeurs distinctes d'une propriété des objets d'un niveau (éléments pour une collection, valeurs pour une Map)
+	 * @param owners	Objets du niveau
+	 * @param propertyName	Nom de la propriété
+	 * @return	Valeurs distinctes non nulles (niveau suivant)
+	 */
+	protected List<Object> readLevel(List<Object> owners, String propertyName) {
+		
+		// Valeurs distinctes du niveau suivant
+		Map<Object, Object> nextLevel = new IdentityHashMap<Object, Object>();
+		List<Object> next = new ArrayList<Object>();
+		
+		// Parcours des objets
+		for (Object owner : owners) {
+			
+			// Valeur de la propriété
+			Object value = getPropertyValue(owner, propertyName);
+			
+			// Eléments de la valeur
+			Collection<?> values = value instanceof Collection ? (Collection<?>) value : value instanceof Map ? ((Map<?, ?>) value).values() : Collections.singleton(value);
+			
+			// Ajout des éléments distincts non nuls
+			for (Object element : values) if(element != null && nextLevel.put(element, element) == null) next.add(element);
+		}
+		
+		// On retourne le niveau suivant
+		return next;
+	}
+	
+	/**
+	 * Méthode de lecture de la valeur d'un champ persistant (sans passer par l'accesseur, afin de ne pas initialiser les proxies). 
+	 * Un proxy (classe inconnue du métamodèle) est lu par son accesseur, qui délègue à l'instance réelle
+	 * @param object	Objet
+	 * @param propertyName	Nom de la propriété
+	 * @return	Valeur du champ
+	 */
+	protected Object getPropertyValue(Object object, String propertyName) {
+		
+		try {
+			
+			// Si l'objet est un proxy, lecture par l'accesseur
+			if(!isManagedClass(object.getClass())) return findPropertyDescriptor(object.getClass(), propertyName).getReadMethod().invoke(object);
+			
+			// Champ de la propriété
+			Field field = findField(object.getClass(), propertyName);
+			
+			// Accessibilité
+			field.setAccessible(true);
+			
+			// On retourne la valeur
+			return field.get(object);
+			
+		} catch (Exception e) {
+			
+			// On relance
+			throw new JPersistenceToolsException("jpagenericdaorulesbased.propertyvalue.error", new String[] {propertyName}, e);
+		}
+	}
+	
+	/**
+	 * Méthode de mise à jour de la valeur d'un champ persistant (par le modificateur si l'objet est un proxy)
+	 * @param object	Objet
+	 * @param propertyName	Nom de la propriété
+	 * @param value	Valeur
+	 */
+	protected void setPropertyValue(Object object, String propertyName, Object value) {
+		
+		try {
+			
+			// Si l'objet est un proxy, mise à jour par le modificateur
+			if(!isManagedClass(object.getClass())) {
+				
+				// Mise à jour de la valeur
+				findPropertyDescriptor(object.getClass(), propertyName).getWriteMethod().invoke(object, value);
+				
+				// On sort
+				return;
+			}
+			
+			// Champ de la propriété
+			Field field = findField(object.getClass(), propertyName);
+			
+			// Accessibilité
+			field.setAccessible(true);
+			
+			// Mise à jour de la valeur
+			field.set(object, value);
+			
+		} catch (Exception e) {
+			
+			// On relance
+			throw new JPersistenceToolsException("jpagenericdaorulesbased.propertyvalue.error", new String[] {propertyName}, e);
+		}
+	}
+	
+	/**
+	 * Méthode de recherche d'une entité déjà managée par le contexte de persistance, sans y enregistrer de référence ni accéder à la base.
+	 * JPA ne permettant pas de consulter le contexte sans y enregistrer de référence (getReference), l'implémentation par défaut ne trouve rien : 
+	 * une DAO liée à un fournisseur peut la redéfinir (ex : recherche par EntityKey dans le PersistenceContext Hibernate)
+	 * @param entityID	ID de l'entité
+	 * @return	Entité managée (null si elle n'est pas dans le contexte ou si le contexte ne peut etre consulté)
+	 */
+	protected T findManagedEntity(Object entityID) {
+		
+		// Contexte non consultable de manière portable
+		return null;
+	}
+	
+	/**
+	 * Méthode de vérification de la connaissance d'une classe par le métamodèle (une sous-classe de proxy n'y figure pas)
+	 * @param type	Classe
+	 * @return	Etat de connaissance
+	 */
+	protected boolean isManagedClass(Class<?> type) {
+		
+		try {
+			
+			// Recherche directe du type géré
+			getEntityManager().getMetamodel().managedType(type);
+			
+			// Classe connue
+			return true;
+			
+		} catch (IllegalArgumentException e) {
+			
+			// Classe inconnue
+			return false;
+		}
+	}
+	
+	/**
+	 * Méthode de recherche du descripteur d'une propriété
+	 * @param type	Classe
+	 * @param propertyName	Nom de la propriété
+	 * @return	Descripteur de la propriété
+	 * @throws IntrospectionException	Si l'introspection échoue ou si la propriété n'existe pas
+	 */
+	private PropertyDescriptor findPropertyDescriptor(Class<?> type, String propertyName) throws IntrospectionException {
+		
+		// Parcours des descripteurs
+		for (PropertyDescriptor descriptor : Introspector.getBeanInfo(type).getPropertyDescriptors()) if(descriptor.getName().equals(propertyName)) return descriptor;
+		
+		// Propriété inexistante
+		throw new IntrospectionException(propertyName);
+	}
+	
+	/**
+	 * Méthode de vérification du chargement des propriétés demandées d'une entité
+	 * @param persistenceUnitUtil	Utilitaire d'unité de persistance
+	 * @param entity	Entité
+	 * @param properties	Ensemble des proprietes demandées en EAGER
+	 * @return	Etat de chargement (chaque segment de chaque chemin est vérifié)
+	 */
+	protected boolean isLoaded(PersistenceUnitUtil persistenceUnitUtil, T entity, Set<String> properties) {
 		
-		// Positionnement du Paramètre
-		query.setParameter(propertyName, propertyValue);
-
-		try {
-
-			// On retourne le résultat
-			return query.getSingleResult();
-			
-		} catch (NoResultException e) {
-			
-			// On retourne null
-			return null;
+		// Si aucune propriété n'est demandée
+		if(properties == null) return true;
+		
+		// Parcours des propriétés
+		for (String property : properties) {
 			
-		} catch (NonUniqueResultException e) {
+			// Si la ppt est nulle ou vide
+			if(property == null || property.trim().length() == 0) continue;
 			
-			// On leve une exception
-			throw new JPersistenceToolsException("jpagenericdaorulesbased.findbyuniqueproperty.entitypropertyname.notunique");
+			// Si le chemin n'est pas entièrement chargé
+			if(!isPathLoaded(persistenceUnitUtil, entity, property.trim().split("\\."), 0)) return false;
 		}
+		
+		// Toutes les propriétés sont chargées
+		return true;
 	}
 	
-	/*
-	 * (non-Javadoc)
-	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#count(java.util.List)
+	/**
+	 * Méthode de vérification du chargement d'un chemin de propriété à partir d'un segment donné
+	 * @param persistenceUnitUtil	Utilitaire d'unité de persistance
+	 * @param owner	Objet portant le segment
+	 * @param segments	Segments du chemin
+	 * @param index	Index du segment à vérifier
+	 * @return	Etat de chargement du segment et des suivants (pour chaque élément d'une collection)
 	 */
-	public long count(List<Predicate> predicates) {
-
-		// Criteria Builder
-		CriteriaBuilder criteriaBuilder = getEntityManager().getCriteriaBuilder();
+	protected boolean isPathLoaded(PersistenceUnitUtil persistenceUnitUtil, Object owner, String[] segments, int index) {
 		
-		// Requete de criteres
-		CriteriaQuery<Long>criteriaQuery = criteriaBuilder.createQuery(Long.class);
+		// Si le chemin est parcouru ou si le propriétaire est nul (rien à charger au-delà)
+		if(index >= segments.length || owner == null) return true;
 		
-		// Construction de la racine
-		Root<T> root = criteriaQuery.from(entityClass);
-
-		// On positionne l'Alias
-		root.alias(ROOT_ALIAS);
+		// Segment courant
+		String segment = segments[index].trim();
 		
-		// Selection de la racine
-		criteriaQuery.select(criteriaBuilder.count(root));
-
-		// Ajout des Prédicats
-		addPredicates(criteriaBuilder, root, criteriaQuery, predicates);
-
-		// Construction de la requete basée sur les critères
-		TypedQuery<Long> query = getEntityManager().createQuery(criteriaQuery);
+		// Si le segment n'est pas chargé
+		if(!persistenceUnitUtil.isLoaded(owner, segment)) return false;
 		
-		// On retourne le resultat
-		return query.getSingleResult();
+		// S'il s'agit du dernier segment
+		if(index == segments.length - 1) return true;
+		
+		// Valeur du segment
+		Object value = getPropertyValue(owner, segment);
+		
+		// Si la valeur est une collection, chaque élément doit porter la suite du chemin
+		if(value instanceof Collection) {
+			
+			// Parcours des éléments
+			for (Object element : (Collection<?>) value) if(!isPathLoaded(persistenceUnitUtil, element, segments, index + 1)) return false;
+			
+			// Tous les éléments sont chargés
+			return true;
+		}
+		
+		// Si la valeur est un mandataire non initialisé
+		if(value != null && !persistenceUnitUtil.isLoaded(value)) return false;
+		
+		// Segment suivant
+		return isPathLoaded(persistenceUnitUtil, value, segments, index + 1);
 	}
 	
-	/*
-	 * (non-Javadoc)
-	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#filter(java.util.List, java.util.Map, java.util.Set, int, int)
+	/**
+	 * Méthode de sélection d'un lot d'ID (ordonnés) des entités vérifiant une liste de prédicats
+	 * @param predicates	Liste de prédicats
+	 * @param afterId	ID après lequel le lot commence (null pour le premier lot)
+	 * @param maxResult	Taille du lot
+	 * @return	Lot d'ID, dans l'ordre croissant
 	 */
-	@Override
-	public synchronized List<T> filter(List<Predicate> predicates, Map<String, OrderType> orders, Set<String> properties, int firstResult, int maxResult) {
+	@SuppressWarnings("unchecked")
+	protected List<Object> selectEntityIds(List<Predicate> predicates, Object afterId, int maxResult) {
 		
 		// Criteria Builder
 		CriteriaBuilder criteriaBuilder = getEntityManager().getCriteriaBuilder();
 		
 		// Requete de criteres
-		CriteriaQuery<T>criteriaQuery = criteriaBuilder.createQuery(entityClass);
+		CriteriaQuery<Object> criteriaQuery = criteriaBuilder.createQuery(Object.class);
 		
 		// Construction de la racine
 		Root<T> root = criteriaQuery.from(entityClass);
@@ -594,192 +3678,146 @@ public abstract class JPAGenericDAORulesBasedImpl<T extends Object> implements J
 		// On positionne l'Alias
 		root.alias(ROOT_ALIAS);
 		
-		// Selection de la racine
-		criteriaQuery.select(root);
-		
-		// Ajout des Prédicats
-		addPredicates(criteriaBuilder, root, criteriaQuery, predicates);
-		
-		// Ajout des Odres
-		addOrders(criteriaBuilder, root, criteriaQuery, orders);
-		
-		// Ajout des Modes de chargements
-		addProperties(root, criteriaQuery, properties);
-		
-		// Construction de la requete basée sur les critères
-		TypedQuery<T> query = getEntityManager().createQuery(criteriaQuery);
-		
-		// Traitement de l'index du premier resultat
-		
-		// Si l'index du premier element est < 0
-		if(firstResult < 0) query.setFirstResult(0);
-		else query.setFirstResult(firstResult);
-		
-		// Traitement du nombre max de resultat
+		// Chemin de l'ID
+		Path<Comparable<Object>> idPath = root.get(getEntityIDName());
 		
-		// Si le nombre max d'element est <= 0
-		if(maxResult > 0) query.setMaxResults(maxResult);
+		// Selection de l'ID
+		criteriaQuery.select(idPath);
 		
-		// Execution
-		List<T> results = query.getResultList();
+		// Liste des prédicats JPA
+		List<javax.persistence.criteria.Predicate> jpaPredicates = new ArrayList<javax.persistence.criteria.Predicate>();
 		
-		// On retourne le résultat
-		return results;
-	}
-	
-	/*
-	 * (non-Javadoc)
-	 * @see net.leadware.persistence.tools.core.dao.JPAGenericDAO#executeCriteria(javax.persistence.criteria.CriteriaQuery, java.util.Map)
-	 */
-	@Override
-	public <Q> List<Q> executeCriteria(CriteriaQuery<Q> criteriaQuery, Map<String, Object> parameters) {
+		// Prédicats de filtre
+		if(predicates != null && !predicates.isEmpty()) jpaPredicates.add(buildJPAPredicate(criteriaBuilder, root, predicates));
 		
-		// Si la Requete est nulle
-		if(criteriaQuery == null) throw new JPersistenceToolsException("jpagenericdaorulesbased.executeCriteria.query.null");
+		// Positionnement après le dernier ID traité
+		if(afterId != null) jpaPredicates.add(criteriaBuilder.greaterThan(idPath, (Comparable<Object>) afterId));
 		
-		// Requete Typee
-		TypedQuery<Q> query = getEntityManager().createQuery(criteriaQuery);
+		// Ajout des Prédicats
+		if(!jpaPredicates.isEmpty()) criteriaQuery.where(jpaPredicates.toArray(new javax.persistence.criteria.Predicate[0]));
 		
-		// Ajout des Parametres
-		addQueryParameters(query, parameters);
+		// Tri sur l'ID
+		criteriaQuery.orderBy(criteriaBuilder.asc(idPath));
 		
-		// Execution
-		return query.getResultList();
+		// On retourne le lot
+		return getEntityManager().createQuery(criteriaQuery).setMaxResults(maxResult).getResultList();
 	}
 	
 	/**
-	 * Méthode d'ajout de parametres à la requete
-	 * @param query	Requete
-	 * @param parameters	Map des parametres
+	 * Méthode de détachement d'entités du contexte de persistance (les autres entités du contexte sont conservées)
+	 * @param entities	Entités à détacher
 	 */
-	protected void addQueryParameters(Query query, Map<String, Object> parameters) {
+	protected void detachEntities(Collection<?> entities) {
 		
-		// Si la MAP est nulle
-		if(parameters == null || parameters.size() == 0) return;
+		// Si la collection est vide
+		if(entities == null) return;
 		
-		// Parcours
-		for(Entry<String, Object> entry : parameters.entrySet()) {
+		// Parcours des entités
+		for (Object entity : entities) {
 			
-			// Ajout
-			query.setParameter(entry.getKey(), entry.getValue());
+			// Si l'entité est managée, on la détache
+			if(entity != null && getEntityManager().contains(entity)) getEntityManager().detach(entity);
 		}
 	}
 	
 	/**
-	 * Méthode de chargement des ordres
-	 * @param criteriaBuilder Constructeur de criteres
-	 * @param root Objet racine
-	 * @param criteriaQuery	Requete de critères
-	 * @param orders	 Liste des ordres
+	 * Méthode de construction de la requete de suppression ensembliste d'un lot d'ID
+	 * @param entityIDs	Lot d'ID
+	 * @return	Requete de suppression
 	 */
-	protected void addOrders(CriteriaBuilder criteriaBuilder, Root<T> root, CriteriaQuery<T> criteriaQuery, Map<String, OrderType> orders) {
+	protected CriteriaDelete<T> buildIdsDeleteQuery(Collection<?> entityIDs) {
 		
-		// Si la liste est vide
-		if(orders == null || orders.size() == 0) return;
+		// Criteria Builder
+		CriteriaBuilder criteriaBuilder = getEntityManager().getCriteriaBuilder();
 		
-		// Liste d'ordres
-		List<Order> lOrders = new ArrayList<Order>();
+		// Requete de suppression par critères
+		CriteriaDelete<T> criteriaDelete = criteriaBuilder.createCriteriaDelete(entityClass);
 		
-		// Parcours
-		for (String property : orders.keySet()) {
-			
-			// Si la propriete est vide
-			if(property == null || property.trim().length() == 0) continue;
-			
-			// Evaluation de la ppt
-			Path<?> path = buildPropertyPathForAnyType(root, property.trim());
-			
-			// Obtention du Type
-			OrderType type = orders.get(property);
-			
-			// Si le type est null
-			if(type == null) continue;
-			
-			// Si on est en ASC
-			if(type.equals(OrderType.ASC)) lOrders.add(criteriaBuilder.asc(path));
-			else lOrders.add(criteriaBuilder.desc(path));
-		}
+		// Construction de la racine
+		Root<T> root = criteriaDelete.from(entityClass);
 		
-		// Ajout
-		criteriaQuery.orderBy(lOrders);
+		// Condition sur les ID
+		criteriaDelete.where(root.get(getEntityIDName()).in(entityIDs));
+		
+		// On retourne la requete
+		return criteriaDelete;
 	}
 	
 	/**
-	 * Méthode de chargement des prédicats
-	 * @param criteriaBuilder Constructeur de critères
-	 * @param root Objet racine
-	 * @param criteriaQuery	Requete de critères
-	 * @param predicates	Liste des predicats
+	 * Méthode d'exécution d'une requete de suppression ensembliste
+	 * @param criteriaDelete	Requete de suppression
+	 * @return	Nombre d'entités supprimées
 	 */
-	protected void addPredicates(CriteriaBuilder criteriaBuilder, Root<T> root, CriteriaQuery<?> criteriaQuery, List<Predicate> predicates) {
-		
-		// Si la liste de predicats est vide
-		if(predicates == null || predicates.size() == 0) return;
-		
-		// Liste de predicats JPA 2
-		List<javax.persistence.criteria.Predicate> jpaPredicates = new ArrayList<javax.persistence.criteria.Predicate>();
-		
-		// Parcours de la liste
-		for (Predicate predicate : predicates) {
-			
-			// Ajout du critere JPA
-			jpaPredicates.add(predicate.generateJPAPredicate(criteriaBuilder, root));
-		}
+	protected int executeDelete(CriteriaDelete<T> criteriaDelete) {
 		
-		// Si la liste des prdicats JPA est de taille 1
-		if(jpaPredicates.size() == 1) criteriaQuery.where(jpaPredicates.get(0));
+		// On retourne le nombre d'entités supprimées
+		return getEntityManager().createQuery(criteriaDelete).executeUpdate();
+	}
+	
+	/**
+	 * Méthode permettant de savoir si au moins un validateur DAO de l'entité gérée s'applique à un mode et un instant d'évaluation
+	 * @param mode	Mode DAO
+	 * @param validationTime	Instant d'évaluation
+	 * @return	Etat d'applicabilité
+	 */
+	protected boolean isReferentialValidationApplicable(DAOMode mode, DAOValidatorEvaluationTime validationTime) {
 		
-		// Sinon
-		else criteriaQuery.where(criteriaBuilder.and(jpaPredicates.toArray(new javax.persistence.criteria.Predicate[0])));
+		// On retourne l'état du plan de validation
+		return !DAOValidationPlan.getPlan(entityClass, mode, validationTime).isEmpty();
 	}
 	
 	/**
-	 * Methode d'ajout des Proprietes a charger a la requete de recherche
-	 * @param root	Entités objet du from
-	 * @param properties	Conteneur de propriétés
+	 * Méthode d'instanciation des validateurs DAO de l'entité gérée applicables à un mode et un instant d'évaluation
+	 * @param mode	Mode DAO
+	 * @param validationTime	Instant d'évaluation
+	 * @return	Liste des validateurs initialisés
 	 */
-	protected void addProperties(Root<T> root, Set<String> properties) {
+	protected List<IDAOValidator<Annotation>> buildReferentialValidators(DAOMode mode, DAOValidatorEvaluationTime validationTime) {
 		
-		// Si le conteneur est vide
-		if(properties == null || properties.size() == 0) return;
+		// Liste des validateurs
+		List<IDAOValidator<Annotation>> validators = new ArrayList<IDAOValidator<Annotation>>();
 		
-		// Parcours du conteneur
-		for (String property : properties) {
+		// Parcours des étapes du plan de validation
+		for (Step step : DAOValidationPlan.getPlan(entityClass, mode, validationTime).getSteps()) {
 			
-			// Si la ppt est nulle ou vide
-			if(property == null || property.trim().length() == 0) continue;
-			
-			// On split
-			String[] hierarchicalPaths = property.split("\\.");
-			
-			// Le fetch de depart
-			FetchParent<?, ?> fetch = root;
-			
-			// Parcours de la liste
-			for (String path : hierarchicalPaths) {
+			try {
 				
-				// Si la propriete est vide
-				if(path == null || path.trim().isEmpty()) continue;
+				// On instancie le validateur
+				IDAOValidator<Annotation> validator = step.getValidatorClass().newInstance();
 				
-				// chargement de cette hierarchie
-				fetch = fetch.fetch(path.trim(), JoinType.LEFT);
+				// Initialisation du Validateur
+				validator.initialize(step.getAnnotation(), getEntityManager(), mode, validationTime);
+				
+				// Ajout du validateur
+				validators.add(validator);
+				
+			} catch (Throwable e) {
+				
+				// On relance l'exception
+				throw new JPersistenceToolsException("ValidatorInstanciationException.message", e);
 			}
 		}
+		
+		// On retourne les validateurs
+		return validators;
 	}
-
+	
 	/**
-	 * Methode d'ajout des Proprietes a charger a la requete de recherche
-	 * @param root	Entités objet du from
-	 * @param query Requete sur l'entité
-	 * @param properties	Conteneur de propriétés
+	 * Méthode de validation groupée des contraintes référentielles d'un lot d'entités
+	 * @param entities	Lot d'entités à valider
+	 * @param validators	Validateurs initialisés
 	 */
-	protected void addProperties(Root<T> root, CriteriaQuery<T> query, Set<String> properties) {
+	protected void validateEntitiesReferentialConstraint(Collection<?> entities, List<IDAOValidator<Annotation>> validators) {
 		
-		// Ajout des ppt
-		addProperties(root, properties);
+		// Si rien à valider
+		if(entities == null || entities.isEmpty() || validators == null || validators.isEmpty()) return;
 		
-		// On positionne le distict
-		query.distinct(true);
+		// Parcours des validateurs
+		for (IDAOValidator<Annotation> validator : validators) {
+			
+			// Validation de chaque entité du lot
+			for (Object entity : entities) validator.processValidation(entity);
+		}
 	}
 	
 	/**
@@ -802,17 +3840,30 @@ public abstract class JPAGenericDAORulesBasedImpl<T extends Object> implements J
 	 */
 	protected void validateEntityReferentialConstraint(Object entity, DAOMode mode, DAOValidatorEvaluationTime validationTime) {
 
-		// Obtention de la liste des annotations DAO qui sont sur la classe
-		List<Annotation> daoAnnotations = DAOValidatorHelper.loadDAOValidatorAnnotations(entity);
+		// Si l'entité est nulle
+		if(entity == null) return;
 		
-		// Si la liste est vide
-		if(daoAnnotations == null || daoAnnotations.size() == 0) return;
+		// Plan de validation de la classe (annotations applicables uniquement, calculé une seule fois)
+		DAOValidationPlan plan = DAOValidationPlan.getPlan(entity.getClass(), mode, validationTime);
 		
-		// On parcours cette liste
-		for (Annotation daoAnnotation : daoAnnotations) {
-
-			// Obtention de la classe du Validateur
-			Class<?> validatorClass = DAOValidatorHelper.getValidationLogicClass(daoAnnotation);
+		// Si le plan est vide
+		if(plan.isEmpty()) return;
+		
+		// Contexte de l'appel (seul état propre à l'appel des règles préparées)
+		DAOValidatorContext context = new DAOValidatorContext(getEntityManager(), mode, validationTime);
+		
+		// On parcours les étapes du plan
+		for (Step step : plan.getSteps()) {
+			
+			// Si la règle est préparée et partagée
+			if(step.getValidator() != null) {
+				
+				// Validation des contraintes d'integrites
+				step.getValidator().processValidation(entity, context);
+				
+				// Etape suivante
+				continue;
+			}
 
 			// Le validateur
 			IDAOValidator<Annotation> validator = null;
@@ -820,10 +3871,10 @@ public abstract class JPAGenericDAORulesBasedImpl<T extends Object> implements J
 			try {
 				
 				// On instancie le validateur
-				validator = (IDAOValidator<Annotation>) validatorClass.newInstance();
+				validator = step.getValidatorClass().newInstance();
 				
 				// Initialisation du Validateur
-				validator.initialize(daoAnnotation, getEntityManager(), mode, validationTime);
+				validator.initialize(step.getAnnotation(), getEntityManager(), mode, validationTime);
 				
 			} catch (Throwable e) {
 				
@@ -836,6 +3887,74 @@ public abstract class JPAGenericDAORulesBasedImpl<T extends Object> implements J
 		}
 	}
 	
+	/**
+	 * Méthode de construction du chemin d'une colonne de projection à partir de la racine : les associations intermédiaires 
+	 * sont parcourues par jointure externe gauche, une ligne dont l'association est nulle est donc conservée avec une colonne nulle
+	 * @param root	Racine
+	 * @param stringPath	Chemin sous forme de chaine
+	 * @param joins	Jointures déjà construites pour la requete, indexées par chemin
+	 * @return	Chemin recherché sous forme Path
+	 */
+	protected Path<?> buildProjectionPath(Root<T> root, String stringPath, Map<String, From<?, ?>> joins) {
+		
+		// Si la racine est nulle
+		if(root == null) return null;
+		
+		// Si la chaine est vide
+		if(stringPath == null || stringPath.trim().length() == 0) return null;
+		
+		// On splitte sur le séparateur de champs
+		String[] hierarchicalPaths = stringPath.trim().split("\\.");
+		
+		// Source courante (null dès que le chemin quitte les entités)
+		From<?, ?> from = root;
+		
+		// Chemin courant
+		Path<?> path = root;
+		
+		// Chemin parcouru
+		StringBuilder walkedPath = new StringBuilder();
+		
+		// Parcours des segments intermédiaires
+		for (int i = 0; i < hierarchicalPaths.length - 1; i++) {
+			
+			// Le segment
+			String unitPath = hierarchicalPaths[i].trim();
+			
+			// Si le segment est vide
+			if(unitPath.length() == 0) continue;
+			
+			// Mise à jour du chemin parcouru
+			walkedPath.append(walkedPath.length() == 0 ? "" : ".").append(unitPath);
+			
+			// Si le segment est une association de la source courante
+			if(from != null && getEntityManager().getMetamodel().managedType(from.getJavaType()).getAttribute(unitPath).isAssociation()) {
+				
+				// Jointure déjà construite
+				From<?, ?> join = joins.get(walkedPath.toString());
+				
+				// Si la jointure n'existe pas, on la construit en externe gauche
+				if(join == null) {
+					join = from.join(unitPath, JoinType.LEFT);
+					joins.put(walkedPath.toString(), join);
+				}
+				
+				// Poursuite depuis la jointure
+				from = join;
+				path = join;
+				
+			} else {
+				
+				// Acces à la ppt (composant)
+				path = path.get(unitPath);
+				from = null;
+			}
+		}
+		
+		// On retourne le chemin de la propriété finale
+		return path.get(hierarchicalPaths[hierarchicalPaths.length - 1].trim());
+	}
+	
 	/**
 	 * Méthode de construction d'un chemin de propriété à partir de la racine
 	 * @param root	Racine
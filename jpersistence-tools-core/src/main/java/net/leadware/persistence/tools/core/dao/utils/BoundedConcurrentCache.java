@@ -0,0 +1,171 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.leadware.persistence.tools.core.dao.utils;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache borné, partageable entre threads sans verrou global, avec compteurs de succès et d'échecs.
+ * Lorsque la taille maximale est atteinte, une entrée quelconque est évincée avant chaque insertion d'une nouvelle clé
+ * @param <K>	Type des clés
+ * @param <V>	Type des valeurs
+ * @author <a href="mailto:jetune@leadware.net">Jean-Jacques ETUNE NGI (Leadware Enterprise Architect)</a>
+ * @since 18 oct. 2026 - 11:42:18
+ */
+public class BoundedConcurrentCache<K, V> {
+	
+	/**
+	 * Taille maximale par défaut
+	 */
+	public static final int DEFAULT_MAX_SIZE = 256;
+	
+	/**
+	 * Entrées du cache
+	 */
+	private final ConcurrentMap<K, V> entries = new ConcurrentHashMap<K, V>();
+	
+	/**
+	 * Nombre de succès
+	 */
+	private final AtomicLong hitCount = new AtomicLong();
+	
+	/**
+	 * Nombre d'échecs
+	 */
+	private final AtomicLong missCount = new AtomicLong();
+	
+	/**
+	 * Taille maximale
+	 */
+	private volatile int maxSize;
+	
+	/**
+	 * Constructeur par défaut
+	 */
+	public BoundedConcurrentCache() {
+		this(DEFAULT_MAX_SIZE);
+	}
+	
+	/**
+	 * Constructeur avec initialisation des paramètres
+	 * @param maxSize	Taille maximale (le cache est désactivé si elle est {@code <= 0})
+	 */
+	public BoundedConcurrentCache(int maxSize) {
+		this.maxSize = maxSize;
+	}
+	
+	/**
+	 * Méthode de lecture d'une entrée (comptabilisée en succès ou en échec)
+	 * @param key	Clé
+	 * @return	Valeur en cache (null si absente)
+	 */
+	public V get(K key) {
+		
+		// Lecture de l'entrée
+		V value = key == null ? null : entries.get(key);
+		
+		// Mise à jour des compteurs
+		if(value == null) missCount.incrementAndGet();
+		else hitCount.incrementAndGet();
+		
+		// On retourne la valeur
+		return value;
+	}
+	
+	/**
+	 * Méthode d'insertion d'une entrée si elle est absente
+	 * @param key	Clé
+	 * @param value	Valeur
+	 * @return	Valeur effectivement en cache (celle d'un autre thread si elle l'a précédée)
+	 */
+	public V putIfAbsent(K key, V value) {
+		
+		// Si la clé ou la valeur est nulle, ou si le cache est désactivé
+		if(key == null || value == null || maxSize <= 0) return value;
+		
+		// Si la clé est déjà présente, rien n'est évincé
+		V existing = entries.get(key);
+		if(existing != null) return existing;
+		
+		// Eviction tant que la taille maximale est atteinte
+		Iterator<K> keys = entries.keySet().iterator();
+		while(entries.size() >= maxSize && keys.hasNext()) {
+			if(!key.equals(keys.next())) keys.remove();
+		}
+		
+		// Insertion
+		V previous = entries.putIfAbsent(key, value);
+		
+		// On retourne la valeur en cache
+		return previous == null ? value : previous;
+	}
+	
+	/**
+	 * Méthode de vidage du cache (les compteurs sont conservés)
+	 */
+	public void clear() {
+		
+		// Vidage
+		entries.clear();
+	}
+	
+	/**
+	 * Methode d'obtention du nombre d'entrées
+	 * @return Nombre d'entrées
+	 */
+	public int size() {
+		return entries.size();
+	}
+	
+	/**
+	 * Methode d'obtention de la taille maximale
+	 * @return Taille maximale
+	 */
+	public int getMaxSize() {
+		return maxSize;
+	}
+	
+	/**
+	 * Methode de mise à jour de la taille maximale (le cache est vidé)
+	 * @param maxSize Taille maximale (le cache est désactivé si elle est {@code <= 0})
+	 */
+	public void setMaxSize(int maxSize) {
+		this.maxSize = maxSize;
+		clear();
+	}
+	
+	/**
+	 * Methode d'obtention du nombre de succès
+	 * @return Nombre de succès
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+	
+	/**
+	 * Methode d'obtention du nombre d'échecs
+	 * @return Nombre d'échecs
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+}
@@ -0,0 +1,213 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.leadware.persistence.tools.core.dao.utils;
+
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import javax.persistence.EntityManager;
+
+import net.leadware.persistence.tools.api.utils.KeysetCursor;
+import net.leadware.persistence.tools.api.utils.KeysetPage;
+
+/**
+ * Itérateur paresseux sur un résultat chargé par lots de taille fixe, chaque lot étant positionné
+ * par clés (keyset) après le dernier élément du lot précédent : le coût d'un lot ne dépend pas de sa position.
+ * Les entités d'un lot sont détachées du contexte de persistance au chargement du lot suivant
+ * (et à la fermeture), de sorte que la mémoire consommée reste bornée par la taille d'un lot
+ * @param <T>	Type des éléments
+ * @author <a href="mailto:jetune@leadware.net">Jean-Jacques ETUNE NGI (Leadware Enterprise Architect)</a>
+ * @since 18 oct. 2026 - 09:45:12
+ */
+public class ChunkedQueryIterator<T> implements Iterator<T>, Closeable {
+
+	/**
+	 * Gestionnaire d'entités
+	 */
+	private final EntityManager entityManager;
+
+	/**
+	 * Chargeur des lots
+	 */
+	private final ChunkLoader<T> loader;
+
+	/**
+	 * Taille des lots
+	 */
+	private final int fetchSize;
+
+	/**
+	 * Lot en cours
+	 */
+	private List<T> chunk = Collections.emptyList();
+
+	/**
+	 * Index de l'élément courant dans le lot
+	 */
+	private int index = 0;
+
+	/**
+	 * Curseur de positionnement du prochain lot (null pour le premier lot)
+	 */
+	private KeysetCursor cursor = null;
+
+	/**
+	 * Etat d'épuisement du résultat
+	 */
+	private boolean exhausted = false;
+
+	/**
+	 * Etat de fermeture
+	 */
+	private boolean closed = false;
+
+	/**
+	 * Constructeur avec initialisation des paramètres
+	 * @param entityManager	Gestionnaire d'entités
+	 * @param loader	Chargeur des lots
+	 * @param fetchSize	Taille des lots
+	 */
+	public ChunkedQueryIterator(EntityManager entityManager, ChunkLoader<T> loader, int fetchSize) {
+		this.entityManager = entityManager;
+		this.loader = loader;
+		this.fetchSize = fetchSize;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#hasNext()
+	 */
+	@Override
+	public boolean hasNext() {
+
+		// Si l'itérateur est fermé
+		if(closed) return false;
+
+		// S'il reste des éléments dans le lot en cours
+		if(index < chunk.size()) return true;
+
+		// Si le résultat est épuisé
+		if(exhausted) return false;
+
+		// Chargement du lot suivant
+		fetchNextChunk();
+
+		// On retourne l'état
+		return index < chunk.size();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#next()
+	 */
+	@Override
+	public T next() {
+
+		// S'il n'y a plus d'élément
+		if(!hasNext()) throw new NoSuchElementException();
+
+		// On retourne l'élément courant
+		return chunk.get(index++);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.Iterator#remove()
+	 */
+	@Override
+	public void remove() {
+
+		// Opération non supportée
+		throw new UnsupportedOperationException();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() {
+
+		// Détachement du lot en cours
+		detachChunk();
+
+		// Libération du lot
+		chunk = Collections.emptyList();
+
+		// Fermeture
+		closed = true;
+	}
+
+	/**
+	 * Méthode de chargement du lot suivant
+	 */
+	private void fetchNextChunk() {
+
+		// Détachement du lot précédent
+		detachChunk();
+
+		// Chargement du lot positionné après le curseur
+		KeysetPage<T> page = loader.load(cursor, fetchSize);
+
+		// Lot chargé
+		chunk = page.getContent();
+
+		// Réinitialisation de l'index
+		index = 0;
+
+		// Curseur du lot suivant
+		cursor = page.getNextCursor();
+
+		// L'absence de curseur marque la fin du résultat
+		exhausted = cursor == null;
+	}
+
+	/**
+	 * Méthode de détachement des entités du lot en cours
+	 */
+	private void detachChunk() {
+
+		// Parcours du lot
+		for (T entity : chunk) {
+
+			// Si l'entité est encore managée, on la détache
+			if(entity != null && entityManager.contains(entity)) entityManager.detach(entity);
+		}
+	}
+
+	/**
+	 * Chargeur d'un lot positionné par clés
+	 * @param <T>	Type des éléments
+	 * @author <a href="mailto:jetune@leadware.net">Jean-Jacques ETUNE NGI (Leadware Enterprise Architect)</a>
+	 * @since 18 oct. 2026 - 09:45:12
+	 */
+	public interface ChunkLoader<T> {
+
+		/**
+		 * Méthode de chargement d'un lot
+		 * @param cursor	Curseur de positionnement (null pour le premier lot)
+		 * @param fetchSize	Taille du lot
+		 * @return	Lot chargé et curseur du lot suivant (null s'il n'y en a pas)
+		 */
+		public KeysetPage<T> load(KeysetCursor cursor, int fetchSize);
+	}
+}
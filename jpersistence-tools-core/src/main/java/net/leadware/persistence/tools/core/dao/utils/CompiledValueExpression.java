@@ -0,0 +1,180 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.leadware.persistence.tools.core.dao.utils;
+
+import java.io.Serializable;
+
+import javax.el.ValueExpression;
+
+import de.odysseus.el.ExpressionFactoryImpl;
+
+/**
+ * Expression de valeur (fonctionnelle "$F_fonction(...)" ou de ENV "${...}") analysée une seule fois :
+ * le nom de la fonction, son paramètre et l'expression EL sont résolus à la compilation, l'évaluation
+ * sur un objet cible ne fait plus ni analyse par expressions régulières ni compilation EL.
+ * Une instance est immuable et peut etre partagée entre threads
+ * @author <a href="mailto:jetune@leadware.net">Jean-Jacques ETUNE NGI (Leadware Enterprise Architect)</a>
+ * @since 18 oct. 2026 - 16:20:44
+ */
+public final class CompiledValueExpression implements Serializable {
+
+	/**
+	 * ID Genere par Eclipse
+	 */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Fabrique d'expressions EL partagée
+	 */
+	private static final ExpressionFactoryImpl EXPRESSION_FACTORY = new ExpressionFactoryImpl();
+
+	/**
+	 * Executeur des methodes sur le contexte partagé (sans état)
+	 */
+	private static final DAOValidatorMethodExpressionExecutor METHOD_EXECUTOR = new DAOValidatorMethodExpressionExecutor();
+
+	/**
+	 * Expression source
+	 */
+	private final String expression;
+
+	/**
+	 * Nom de la fonction (null s'il ne s'agit pas d'une expression fonctionnelle)
+	 */
+	private final String functionName;
+
+	/**
+	 * Etat de connaissance de la fonction par l'executeur
+	 */
+	private final boolean knownFunction;
+
+	/**
+	 * Paramètre compilé de la fonction (null si le paramètre n'est pas une expression)
+	 */
+	private final CompiledValueExpression functionParameter;
+
+	/**
+	 * Etat de passage de l'objet cible en paramètre de la fonction ("$$")
+	 */
+	private final boolean targetParameter;
+
+	/**
+	 * Expression EL compilée (null s'il ne s'agit pas d'une expression de ENV)
+	 */
+	private final ValueExpression valueExpression;
+
+	/**
+	 * Constructeur avec initialisation des paramètres
+	 * @param expression	Expression source
+	 */
+	private CompiledValueExpression(String expression) {
+
+		// Expression source
+		this.expression = expression;
+
+		// Si l'expression contient une fonction
+		if(DAOValidatorHelper.isExpressionContainPattern(expression, DAOValidatorHelper.FUNC_CHAIN_PATTERN)) {
+
+			// Obtention du Nom de la fonction
+			functionName = DAOValidatorHelper.extractFunctionName(expression);
+
+			// Etat de connaissance de la fonction
+			knownFunction = METHOD_EXECUTOR.getMethodsName().contains(functionName);
+
+			// On extrait le parametre
+			String parameter = DAOValidatorHelper.extractParameter(expression);
+
+			// Si le parametre est une fonction ou une ENV, on le compile
+			boolean compiledParameter = DAOValidatorHelper.isExpressionContainPattern(parameter, DAOValidatorHelper.FUNC_CHAIN_PATTERN) || DAOValidatorHelper.isExpressionContainPattern(parameter, DAOValidatorHelper.ENV_CHAIN_PATTERN);
+			functionParameter = compiledParameter ? new CompiledValueExpression(parameter) : null;
+
+			// Si le parametre designe l'objet cible
+			targetParameter = !compiledParameter && parameter != null && parameter.equals("$$");
+
+			// Pas d'expression EL
+			valueExpression = null;
+
+		} else {
+
+			// Pas de fonction
+			functionName = null;
+			knownFunction = false;
+			functionParameter = null;
+			targetParameter = false;
+
+			// Si l'expression contient une ENV, on la compile
+			valueExpression = DAOValidatorHelper.isExpressionContainPattern(expression, DAOValidatorHelper.ENV_CHAIN_PATTERN) ? EXPRESSION_FACTORY.createValueExpression(new DAOValidatorELContext(), expression, Object.class) : null;
+		}
+	}
+
+	/**
+	 * Méthode de compilation d'une expression de valeur
+	 * @param expression	Expression a compiler
+	 * @return	Expression compilée (null si l'expression est vide)
+	 */
+	public static CompiledValueExpression compile(String expression) {
+
+		// Si l'expression est nulle
+		if(expression == null || expression.trim().length() == 0) return null;
+
+		// On retourne l'expression compilée
+		return new CompiledValueExpression(expression);
+	}
+
+	/**
+	 * Méthode d'évaluation de l'expression sur un objet donne (meme résultat que {@link DAOValidatorHelper#evaluateValueExpression(String, Object)})
+	 * @param target	Objet cible de l'evaluation
+	 * @return	Resultat de l'evaluation
+	 */
+	public Object evaluate(Object target) {
+
+		// Si l'objet cible est null
+		if(target == null) return null;
+
+		// S'il s'agit d'une expression fonctionnelle
+		if(functionName != null) {
+
+			// Resultat de l'evaluation des parametres
+			Object parameterEvaluation = functionParameter != null ? functionParameter.evaluate(target) : targetParameter ? target : null;
+
+			// On evalue la fonction si l'executeur la possede, sinon on retourne le parametre
+			return knownFunction ? METHOD_EXECUTOR.invoke(functionName, parameterEvaluation) : parameterEvaluation;
+		}
+
+		// S'il ne s'agit pas d'une expression de ENV
+		if(valueExpression == null) return null;
+
+		// Contexte d'evaluation
+		DAOValidatorELContext context = new DAOValidatorELContext();
+
+		// Initialisation du resolver (sur la cible) dans le contexte
+		context.setELResolver(new DAOValidatorBeanELResolver(target));
+
+		// On calcule le resultat
+		return valueExpression.getValue(context);
+	}
+
+	/**
+	 * Methode d'obtention de l'Expression source
+	 * @return Expression source
+	 */
+	public String getExpression() {
+		return expression;
+	}
+}
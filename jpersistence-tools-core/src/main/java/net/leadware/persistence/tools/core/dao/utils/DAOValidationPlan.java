@@ -0,0 +1,282 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package net.leadware.persistence.tools.core.dao.utils;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import net.leadware.persistence.tools.api.dao.constants.DAOMode;
+import net.leadware.persistence.tools.api.dao.constants.DAOValidatorEvaluationTime;
+import net.leadware.persistence.tools.api.exceptions.JPersistenceToolsException;
+import net.leadware.persistence.tools.api.validator.base.IDAOValidator;
+import net.leadware.persistence.tools.api.validator.base.IReusableDAOValidator;
+
+/**
+ * Plan de validation référentielle immuable d'une classe d'entité pour un mode DAO et un instant d'évaluation :
+ * liste ordonnée des annotations DAO applicables et de leurs classes de validation, calculée une seule fois par réflexion.
+ * Les annotations de regroupement (@SizeDAOValidators, ...) sont dépliées et leurs annotations non applicables écartées.
+ * Les logiques de validation réutilisables ({@link IReusableDAOValidator}) sont instanciées et préparées à la construction du plan
+ * @author <a href="mailto:jetune@leadware.net">Jean-Jacques ETUNE NGI (Leadware Enterprise Architect)</a>
+ * @since 18 oct. 2026 - 14:05:31
+ */
+public final class DAOValidationPlan {
+
+	/**
+	 * Cache partagé des plans : attaché à chaque classe (libéré avec son chargeur de classes), puis indexé par (mode, instant d'évaluation).
+	 * Le nombre de plans est borné par le nombre de classes d'entités, aucune éviction n'est nécessaire
+	 */
+	private static final ClassValue<ConcurrentMap<List<Object>, DAOValidationPlan>> PLANS = new ClassValue<ConcurrentMap<List<Object>, DAOValidationPlan>>() {
+		
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.ClassValue#computeValue(java.lang.Class)
+		 */
+		@Override
+		protected ConcurrentMap<List<Object>, DAOValidationPlan> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<List<Object>, DAOValidationPlan>();
+		}
+	};
+
+	/**
+	 * Etapes du plan
+	 */
+	private final List<Step> steps;
+
+	/**
+	 * Constructeur avec initialisation des paramètres
+	 * @param steps	Etapes du plan
+	 */
+	private DAOValidationPlan(List<Step> steps) {
+		this.steps = Collections.unmodifiableList(steps);
+	}
+
+	/**
+	 * Méthode d'obtention du plan de validation d'une classe (calculé au premier appel puis partagé)
+	 * @param type	Classe de l'entité
+	 * @param mode	Mode DAO
+	 * @param evaluationTime	Instant d'évaluation
+	 * @return	Plan de validation
+	 */
+	public static DAOValidationPlan getPlan(Class<?> type, DAOMode mode, DAOValidatorEvaluationTime evaluationTime) {
+
+		// Plans de la classe
+		ConcurrentMap<List<Object>, DAOValidationPlan> plans = PLANS.get(type);
+
+		// Clé du plan
+		List<Object> key = Arrays.<Object>asList(mode, evaluationTime);
+
+		// Plan en cache
+		DAOValidationPlan plan = plans.get(key);
+
+		// Si le plan n'est pas en cache
+		if(plan == null) {
+
+			// Calcul du plan
+			plan = buildPlan(type, mode, evaluationTime);
+
+			// Enregistrement (le premier plan enregistré est conservé)
+			DAOValidationPlan existing = plans.putIfAbsent(key, plan);
+
+			// Si un autre thread a déjà enregistré le plan
+			if(existing != null) plan = existing;
+		}
+
+		// On retourne le plan
+		return plan;
+	}
+
+	/**
+	 * Méthode de calcul du plan de validation d'une classe
+	 * @param type	Classe de l'entité
+	 * @param mode	Mode DAO
+	 * @param evaluationTime	Instant d'évaluation
+	 * @return	Plan de validation
+	 */
+	@SuppressWarnings("unchecked")
+	private static DAOValidationPlan buildPlan(Class<?> type, DAOMode mode, DAOValidatorEvaluationTime evaluationTime) {
+
+		// Etapes du plan
+		List<Step> steps = new ArrayList<Step>();
+
+		// Parcours des annotations DAO de la classe
+		for (Annotation annotation : DAOValidatorHelper.loadDAOValidatorAnnotations(type)) {
+
+			// Si l'annotation ne s'applique pas
+			if(!DAOValidatorHelper.isDAOValidatorApplicable(annotation, mode, evaluationTime)) continue;
+
+			// Annotations regroupées
+			Annotation[] validators = getGroupedValidators(annotation);
+
+			// S'il ne s'agit pas d'un regroupement : étape unique
+			if(validators == null) {
+
+				// Ajout de l'étape
+				steps.add(new Step(annotation, (Class<? extends IDAOValidator<Annotation>>) DAOValidatorHelper.getValidationLogicClass(annotation)));
+
+				// Annotation suivante
+				continue;
+			}
+
+			// Parcours des annotations regroupées applicables
+			for (Annotation validator : validators) {
+
+				// Ajout de l'étape
+				if(DAOValidatorHelper.isDAOValidatorApplicable(validator, mode, evaluationTime))
+					steps.add(new Step(validator, (Class<? extends IDAOValidator<Annotation>>) DAOValidatorHelper.getValidationLogicClass(validator)));
+			}
+		}
+
+		// On retourne le plan
+		return new DAOValidationPlan(steps);
+	}
+
+	/**
+	 * Méthode d'obtention des annotations DAO regroupées par une annotation de regroupement
+	 * @param annotation	Annotation DAO
+	 * @return	Annotations regroupées (null s'il ne s'agit pas d'un regroupement d'annotations DAO)
+	 */
+	private static Annotation[] getGroupedValidators(Annotation annotation) {
+
+		try {
+
+			// Valeur de l'attribut "value"
+			Object value = annotation.annotationType().getMethod("value").invoke(annotation);
+
+			// S'il ne s'agit pas d'un tableau d'annotations
+			if(!(value instanceof Annotation[])) return null;
+
+			// Parcours des annotations regroupées
+			for (Annotation validator : (Annotation[]) value) {
+
+				// Si l'une d'elles n'est pas une annotation DAO, le regroupement est conservé tel quel
+				if(!DAOValidatorHelper.isDAOValidatorAnnotation(validator)) return null;
+			}
+
+			// On retourne les annotations regroupées
+			return (Annotation[]) value;
+
+		} catch (Exception e) {
+
+			// Pas d'attribut "value" : pas de regroupement
+			return null;
+		}
+	}
+
+	/**
+	 * Méthode d'obtention des étapes du plan
+	 * @return	Etapes du plan (non modifiables)
+	 */
+	public List<Step> getSteps() {
+		return steps;
+	}
+
+	/**
+	 * Méthode permettant de savoir si le plan est vide
+	 * @return	Etat de vacuité
+	 */
+	public boolean isEmpty() {
+		return steps.isEmpty();
+	}
+
+	/**
+	 * Etape immuable d'un plan de validation : annotation DAO et classe de sa logique de validation
+	 * @author <a href="mailto:jetune@leadware.net">Jean-Jacques ETUNE NGI (Leadware Enterprise Architect)</a>
+	 * @since 18 oct. 2026 - 14:05:31
+	 */
+	public static final class Step {
+
+		/**
+		 * Annotation DAO
+		 */
+		private final Annotation annotation;
+
+		/**
+		 * Classe de la logique de validation
+		 */
+		private final Class<? extends IDAOValidator<Annotation>> validatorClass;
+
+		/**
+		 * Logique de validation préparée et partagée (null si la logique n'est pas réutilisable)
+		 */
+		private final IReusableDAOValidator<Annotation> validator;
+
+		/**
+		 * Constructeur avec initialisation des paramètres
+		 * @param annotation	Annotation DAO
+		 * @param validatorClass	Classe de la logique de validation
+		 */
+		@SuppressWarnings("unchecked")
+		private Step(Annotation annotation, Class<? extends IDAOValidator<Annotation>> validatorClass) {
+			this.annotation = annotation;
+			this.validatorClass = validatorClass;
+			
+			// Si la logique n'est pas réutilisable, elle sera instanciée à chaque validation
+			if(!IReusableDAOValidator.class.isAssignableFrom(validatorClass)) {
+				this.validator = null;
+				return;
+			}
+			
+			try {
+				
+				// Instanciation de la logique partagée
+				IReusableDAOValidator<Annotation> reusableValidator = (IReusableDAOValidator<Annotation>) validatorClass.newInstance();
+				
+				// Préparation de la partie immuable
+				reusableValidator.prepare(annotation);
+				
+				// Sauvegarde
+				this.validator = reusableValidator;
+				
+			} catch (Throwable e) {
+				
+				// On relance l'exception
+				throw new JPersistenceToolsException("ValidatorInstanciationException.message", e);
+			}
+		}
+
+		/**
+		 * Methode d'obtention de l'Annotation DAO
+		 * @return Annotation DAO
+		 */
+		public Annotation getAnnotation() {
+			return annotation;
+		}
+
+		/**
+		 * Methode d'obtention de la Classe de la logique de validation
+		 * @return Classe de la logique de validation
+		 */
+		public Class<? extends IDAOValidator<Annotation>> getValidatorClass() {
+			return validatorClass;
+		}
+
+		/**
+		 * Methode d'obtention de la Logique de validation préparée et partagée
+		 * @return Logique de validation préparée (null si la logique n'est pas réutilisable)
+		 */
+		public IReusableDAOValidator<Annotation> getValidator() {
+			return validator;
+		}
+	}
+}
@@ -22,15 +22,16 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
-import javax.el.ValueExpression;
-
-import de.odysseus.el.ExpressionFactoryImpl;
+import net.leadware.persistence.tools.api.dao.constants.DAOMode;
+import net.leadware.persistence.tools.api.dao.constants.DAOValidatorEvaluationTime;
+import net.leadware.persistence.tools.api.exceptions.JPersistenceToolsException;
 import net.leadware.persistence.tools.api.generator.annotaions.FieldGenerator;
 import net.leadware.persistence.tools.api.generator.base.IDAOGeneratorManager;
 import net.leadware.persistence.tools.api.validator.annotations.EntityExistValidator;
@@ -66,6 +67,16 @@ public class DAOValidatorHelper {
 	 */
 	private static Map<String, Class<? extends IDAOValidator<? extends Annotation>>> mValidatorMapping = new HashMap<String, Class<? extends IDAOValidator<? extends Annotation>>>();
 	
+	/**
+	 * Cache partagé des modeles d'expressions resolus (immuables), indexés par expression
+	 */
+	private static final BoundedConcurrentCache<String, ExpressionModel> EXPRESSION_MODELS = new BoundedConcurrentCache<String, ExpressionModel>();
+	
+	/**
+	 * Cache partagé des expressions de valeur pré-analysées, indexées par expression
+	 */
+	private static final BoundedConcurrentCache<String, CompiledValueExpression> VALUE_EXPRESSIONS = new BoundedConcurrentCache<String, CompiledValueExpression>();
+	
 	/**
 	 * Initialisation statique du champ
 	 */
@@ -227,18 +238,36 @@ public class DAOValidatorHelper {
 	 */
 	public static List<Annotation> loadDAOValidatorAnnotations(Object object) {
 		
+		// Si l'objet est null
+		if(object == null) {
+			
+			// On retourne une liste vide
+			return new ArrayList<Annotation>();
+		}
+		
+		// On retourne les annotations de la classe de l'objet
+		return loadDAOValidatorAnnotations(object.getClass());
+	}
+	
+	/**
+	 * Methode permettant de charger toutes les annotations DAO d'une classe
+	 * @param type	Classe a inspecter
+	 * @return	Liste des annotations DAO retrouvees
+	 */
+	public static List<Annotation> loadDAOValidatorAnnotations(Class<?> type) {
+		
 		// Liste des annotations retrouvees
 		List<Annotation> daoAnnotations = new ArrayList<Annotation>();
 		
-		// Si l'objet est null
-		if(object == null) {
+		// Si la classe est nulle
+		if(type == null) {
 			
 			// On retourne une liste vide
 			return daoAnnotations;
 		}
 		
 		// Obtention des annotations de la classe
-		Annotation[] objectAnnotations = object.getClass().getAnnotations();
+		Annotation[] objectAnnotations = type.getAnnotations();
 		
 		// Si le tableau est vide
 		if(objectAnnotations == null || objectAnnotations.length == 0) {
@@ -363,6 +392,78 @@ public class DAOValidatorHelper {
 		return logicAnnotation.validatedBy();
 	}
 	
+	/**
+	 * Methode permettant de savoir si une annotation DAO (ou l'une des annotations qu'elle regroupe) 
+	 * s'applique a un mode DAO et a un instant d'evaluation donnes.
+	 * Les attributs "mode" et "evaluationTime" sont lus par reflexion ; en leur absence l'annotation est consideree applicable
+	 * @param annotation	Annotation DAO
+	 * @param mode	Mode DAO
+	 * @param evaluationTime	Instant d'evaluation
+	 * @return	Etat d'applicabilite de l'annotation
+	 */
+	public static boolean isDAOValidatorApplicable(Annotation annotation, DAOMode mode, DAOValidatorEvaluationTime evaluationTime) {
+		
+		// Si l'annotation est nulle
+		if(annotation == null) return false;
+		
+		// Annotations regroupees
+		Object validators = readAnnotationAttribute(annotation, "value");
+		
+		// S'il s'agit d'une annotation de regroupement
+		if(validators instanceof Annotation[]) {
+			
+			// Parcours des annotations regroupees
+			for (Annotation validator : (Annotation[]) validators) {
+				
+				// Si l'une d'elles s'applique
+				if(isDAOValidatorApplicable(validator, mode, evaluationTime)) return true;
+			}
+			
+			// Aucune annotation regroupee ne s'applique
+			return false;
+		}
+		
+		// Modes de l'annotation
+		Object annotationModes = readAnnotationAttribute(annotation, "mode");
+		
+		// Instants d'evaluation de l'annotation
+		Object annotationTimes = readAnnotationAttribute(annotation, "evaluationTime");
+		
+		// Comparaison des modes
+		boolean correctMode = !(annotationModes instanceof DAOMode[]) || arraryContains((DAOMode[]) annotationModes, mode);
+		
+		// Comparaison des instants d'evaluation
+		boolean correctTime = !(annotationTimes instanceof DAOValidatorEvaluationTime[]) || arraryContains((DAOValidatorEvaluationTime[]) annotationTimes, evaluationTime);
+		
+		// On retourne la comparaison des deux
+		return correctMode && correctTime;
+	}
+	
+	/**
+	 * Methode de lecture par reflexion d'un attribut d'annotation
+	 * @param annotation	Annotation
+	 * @param attributeName	Nom de l'attribut
+	 * @return	Valeur de l'attribut (null s'il n'existe pas)
+	 */
+	private static Object readAnnotationAttribute(Annotation annotation, String attributeName) {
+		
+		try {
+			
+			// On retourne la valeur de l'attribut
+			return annotation.annotationType().getMethod(attributeName).invoke(annotation);
+			
+		} catch (NoSuchMethodException e) {
+			
+			// Attribut inexistant
+			return null;
+			
+		} catch (Exception e) {
+			
+			// On relance
+			throw new JPersistenceToolsException("ValidatorInstanciationException.message", e);
+		}
+	}
+	
 	/**
 	 * Methode permettant de savoir si un Objet de type T est contenu dans un Tableau d'objet de type T
 	 * @param array	Tableau d'objet d'un type T
@@ -470,7 +571,7 @@ public class DAOValidatorHelper {
 	}
 	
 	/**
-	 * Methode de resolution d'une Expression
+	 * Methode de resolution d'une Expression (le modele immuable est calcule au premier appel puis partagé)
 	 * @param expression	Expression a transformer
 	 * @return	Modele de l'expression transformee
 	 */
@@ -483,6 +584,67 @@ public class DAOValidatorHelper {
 			return null;
 		}
 		
+		// Modele en cache
+		ExpressionModel expressionModel = EXPRESSION_MODELS.get(expression);
+		
+		// Si le modele n'est pas en cache, on le calcule
+		if(expressionModel == null) expressionModel = EXPRESSION_MODELS.putIfAbsent(expression, parseExpression(expression).toImmutable());
+		
+		// On retourne le modele
+		return expressionModel;
+	}
+	
+	/**
+	 * Methode d'obtention du cache partagé des modeles d'expressions (statistiques, dimensionnement)
+	 * @return	Cache des modeles d'expressions
+	 */
+	public static BoundedConcurrentCache<String, ExpressionModel> getExpressionCache() {
+		return EXPRESSION_MODELS;
+	}
+	
+	/**
+	 * Methode d'obtention du cache partagé des expressions de valeur pré-analysées (statistiques, dimensionnement)
+	 * @return	Cache des expressions de valeur
+	 */
+	public static BoundedConcurrentCache<String, CompiledValueExpression> getValueExpressionCache() {
+		return VALUE_EXPRESSIONS;
+	}
+	
+	/**
+	 * Methode de prechauffage des caches d'expressions : construit les plans de validation de chaque classe
+	 * pour tous les modes et instants d'evaluation, ce qui resout et pré-analyse toutes leurs expressions
+	 * @param types	Classes d'entites
+	 * @return	Nombre de modeles d'expressions en cache
+	 */
+	public static int warmUpExpressionCache(Collection<Class<?>> types) {
+		
+		// Si la liste est vide
+		if(types == null) return EXPRESSION_MODELS.size();
+		
+		// Parcours des classes
+		for (Class<?> type : types) {
+			
+			// Parcours des modes et instants d'evaluation
+			for (DAOMode mode : DAOMode.values()) {
+				for (DAOValidatorEvaluationTime evaluationTime : DAOValidatorEvaluationTime.values()) {
+					
+					// Construction du plan (preparation des logiques et de leurs expressions)
+					DAOValidationPlan.getPlan(type, mode, evaluationTime);
+				}
+			}
+		}
+		
+		// On retourne la taille du cache
+		return EXPRESSION_MODELS.size();
+	}
+	
+	/**
+	 * Methode d'analyse d'une Expression
+	 * @param expression	Expression a transformer (non vide)
+	 * @return	Modele (modifiable) de l'expression transformee
+	 */
+	private static ExpressionModel parseExpression(String expression) {
+		
 		// On Instancie un model d'expression
 		ExpressionModel expressionModel = new ExpressionModel(expression.trim());
 		
@@ -702,103 +864,27 @@ public class DAOValidatorHelper {
 
 	/**
 	 * Methode d'evaluation d'une Expression (Fonctionnelle ou de ENV sur u Objet) sur un objet donne
+	 * (l'expression est analysee au premier appel puis partagée)
 	 * @param expression	Expression a evaluer
 	 * @param target	Objet cible de l'evaluation
 	 * @return	Resultat de l'evaluation
 	 */
 	public static Object evaluateValueExpression(String expression, Object target) {
 		
-		// Executeur des methodes sur le contexte
-		DAOValidatorMethodExpressionExecutor methodExecutor = new DAOValidatorMethodExpressionExecutor();
-		
-		// Resolver
-		DAOValidatorBeanELResolver resolver = new DAOValidatorBeanELResolver(null);
-		
-		// Contexte d'evaluation
-		DAOValidatorELContext context = new DAOValidatorELContext();
-
-		// Fabrique d'expression
-		ExpressionFactoryImpl expressionFactory = new ExpressionFactoryImpl();
-		
 		// Si l'expression est nulle
 		if(expression == null || expression.trim().length() == 0) return null;
 		
 		// Si l'objet cible est null
 		if(target == null) return null;
 		
-		// Expression Locale
-		String localExpression = expression;
+		// Expression pre-analysee en cache
+		CompiledValueExpression valueExpression = VALUE_EXPRESSIONS.get(expression);
 		
-		// Nom de la fonction
-		String functionName = null;
-
-		// Objet resultat
-		Object result = null;
-		
-		// Si l'expression contient une fonction
-		if(DAOValidatorHelper.isExpressionContainPattern(expression, DAOValidatorHelper.FUNC_CHAIN_PATTERN)) {
-			
-			// Resultat de l'evaluation des parametres
-			Object parameterEvaluation = null;
-			
-			// Obtention du Nom de la fonction
-			functionName = DAOValidatorHelper.extractFunctionName(expression);
-			
-			// On extrait le parametre
-			String functionParameter = DAOValidatorHelper.extractParameter(expression);
-			
-			// Si le parametre est une fonction
-			if(DAOValidatorHelper.isExpressionContainPattern(functionParameter, DAOValidatorHelper.FUNC_CHAIN_PATTERN)) {
-				
-				// Appel recursif
-				parameterEvaluation = evaluateValueExpression(functionParameter, target);
-				
-			} else if(DAOValidatorHelper.isExpressionContainPattern(functionParameter, DAOValidatorHelper.ENV_CHAIN_PATTERN)) {
-				
-				// Appel recursif
-				parameterEvaluation = evaluateValueExpression(functionParameter, target);
-				
-			} else if(functionParameter != null && functionParameter.equals("$$")) {
-				
-				// Appel recursif
-				parameterEvaluation = target;
-				
-			}
-			
-			// Si l'executeur de fonction possede cette fonction
-			if(methodExecutor.getMethodsName().contains(functionName)) {
-				
-				// Si la chaene parametre est vide
-				if(functionParameter == null || functionParameter.trim().length() == 0) result = methodExecutor.invoke(functionName);
-				
-				// On evalue la fonction
-				result = methodExecutor.invoke(functionName, parameterEvaluation);
-				
-			} else {
-				
-				// On recupere le parametre
-				result = parameterEvaluation;
-				
-			}
-			
-		} else if(DAOValidatorHelper.isExpressionContainPattern(expression, DAOValidatorHelper.ENV_CHAIN_PATTERN)) {
-			
-			// Initialisation de la cible dans le resolver
-			resolver.setBase(target);
-			
-			// Initialisation du resolver dans le contexte
-			context.setELResolver(resolver);
-			
-			// Instanciation d'une expression
-			ValueExpression ve = expressionFactory.createValueExpression(context, localExpression, Object.class);
-			
-			// On calcule le resultat
-			result = ve.getValue(context);
-			
-		}
+		// Si elle n'est pas en cache, on l'analyse
+		if(valueExpression == null) valueExpression = VALUE_EXPRESSIONS.putIfAbsent(expression, CompiledValueExpression.compile(expression));
 		
-		// On retourne le resultat de l'evalo
-		return result;
+		// On retourne le resultat de l'evaluation
+		return valueExpression.evaluate(target);
 	}
 
 	/**
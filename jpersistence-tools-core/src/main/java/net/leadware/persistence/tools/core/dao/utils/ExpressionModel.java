@@ -50,6 +50,16 @@ public class ExpressionModel implements Serializable {
 	 */
 	private Map<String, String> parameters = new HashMap<String, String>();
 	
+	/**
+	 * Evaluateurs pré-analysés des parametres (renseignés sur un modele immuable)
+	 */
+	private Map<String, CompiledValueExpression> parameterEvaluators = Collections.emptyMap();
+	
+	/**
+	 * Etat d'immuabilite du modele
+	 */
+	private boolean immutable = false;
+	
 	/**
 	 * Constructeur par defaut
 	 */
@@ -77,6 +87,7 @@ public class ExpressionModel implements Serializable {
 	 * @param originalExpression Expression Originale
 	 */
 	public void setOriginalExpression(String originalExpression) {
+		checkMutable();
 		this.originalExpression = originalExpression;
 	}
 
@@ -93,6 +104,7 @@ public class ExpressionModel implements Serializable {
 	 * @param computedExpression Expression transformee
 	 */
 	public void setComputedExpression(String computedExpression) {
+		checkMutable();
 		this.computedExpression = computedExpression;
 	}
 
@@ -111,6 +123,9 @@ public class ExpressionModel implements Serializable {
 	 */
 	public void addParameter(String parameterName, String parameterExpression) {
 		
+		// Un modele immuable ne peut etre modifie
+		checkMutable();
+		
 		// Si le nom du parametre est null
 		if(parameterName == null || parameterName.trim().length() == 0) return;
 		
@@ -120,4 +135,81 @@ public class ExpressionModel implements Serializable {
 		// On ajoute le Parametre
 		this.parameters.put(parameterName, parameterExpression);
 	}
+	
+	/**
+	 * Methode d'obtention d'une copie immuable du modele dont les expressions de parametres sont pré-analysées
+	 * (une expression non analysable sera evaluee, et son erreur levee, au moment de l'evaluation)
+	 * @return	Modele immuable (partageable entre threads)
+	 */
+	public ExpressionModel toImmutable() {
+		
+		// Si le modele est deja immuable
+		if(immutable) return this;
+		
+		// Copie du modele
+		ExpressionModel model = new ExpressionModel();
+		model.originalExpression = originalExpression;
+		model.computedExpression = computedExpression;
+		model.parameters = new HashMap<String, String>(parameters);
+		
+		// Evaluateurs des parametres
+		Map<String, CompiledValueExpression> evaluators = new HashMap<String, CompiledValueExpression>();
+		
+		// Parcours des parametres
+		for (Map.Entry<String, String> parameter : parameters.entrySet()) {
+			
+			try {
+				
+				// Pre-analyse de l'expression du parametre
+				evaluators.put(parameter.getKey(), CompiledValueExpression.compile(parameter.getValue()));
+				
+			} catch (RuntimeException e) {
+				
+				// Expression non analysable : evaluation differee
+				continue;
+			}
+		}
+		
+		// Sauvegarde
+		model.parameterEvaluators = Collections.unmodifiableMap(evaluators);
+		model.immutable = true;
+		
+		// On retourne le modele
+		return model;
+	}
+	
+	/**
+	 * Methode permettant de savoir si le modele est immuable
+	 * @return	Etat d'immuabilite
+	 */
+	public boolean isImmutable() {
+		return immutable;
+	}
+	
+	/**
+	 * Methode d'evaluation d'un parametre de l'expression sur un objet donne
+	 * @param parameterName	Nom du parametre
+	 * @param target	Objet cible de l'evaluation
+	 * @return	Resultat de l'evaluation
+	 */
+	public Object evaluateParameter(String parameterName, Object target) {
+		
+		// Evaluateur pre-analyse
+		CompiledValueExpression evaluator = parameterEvaluators.get(parameterName);
+		
+		// S'il existe, on l'utilise
+		if(evaluator != null) return evaluator.evaluate(target);
+		
+		// Sinon evaluation de l'expression brute
+		return DAOValidatorHelper.evaluateValueExpression(parameters.get(parameterName), target);
+	}
+	
+	/**
+	 * Methode de controle de la mutabilite du modele
+	 */
+	private void checkMutable() {
+		
+		// Si le modele est immuable
+		if(immutable) throw new UnsupportedOperationException("ExpressionModel is immutable");
+	}
 }
@@ -27,19 +27,16 @@ import net.leadware.persistence.tools.api.dao.constants.DAOValidatorEvaluationTi
 import net.leadware.persistence.tools.api.dao.constants.ValidatorExpressionType;
 import net.leadware.persistence.tools.api.validator.annotations.EntityExistValidator;
 import net.leadware.persistence.tools.api.validator.annotations.SizeDAOValidator;
-import net.leadware.persistence.tools.api.validator.base.IDAOValidator;
+import net.leadware.persistence.tools.api.validator.base.DAOValidatorContext;
+import net.leadware.persistence.tools.api.validator.base.IReusableDAOValidator;
 
 /**
- * Classe d'implementation de la regle de controle @EntityExistValidator 
+ * Classe d'implementation de la regle de controle @EntityExistValidator.
+ * La requete de controle et la regle de taille sous-jacente sont preparees une seule fois
  * @author <a href="mailto:jetune@leadware.net">Jean-Jacques ETUNE NGI (Leadware Enterprise Architect)</a>
  * @since 31 janv. 2018 - 14:39:39
  */
-public class EntityExistValidatorRule implements IDAOValidator<EntityExistValidator>  {
-
-	/**
-	 * Le gestionnaire d'entites
-	 */
-	protected EntityManager entityManager;
+public class EntityExistValidatorRule implements IReusableDAOValidator<EntityExistValidator>  {
 	
 	/**
 	 * L'annotation en cours
@@ -47,19 +44,14 @@ public class EntityExistValidatorRule implements IDAOValidator<EntityExistValida
 	protected EntityExistValidator annotation;
 	
 	/**
-	 * Temps d'evaluation systeme
+	 * Validateur de taille prepare (null si la classe cible ou le champ id n'est pas specifie)
 	 */
-	protected DAOValidatorEvaluationTime systemEvaluationTime;
+	protected SizeDAOValidatorRule sizeValidator;
 	
 	/**
-	 * Mode DAO du systeme
+	 * Contexte lie par {@link #initialize(EntityExistValidator, EntityManager, DAOMode, DAOValidatorEvaluationTime)} (utilisation non partagee)
 	 */
-	protected DAOMode systemDAOMode;
-	
-	/**
-	 * Validateur de taille
-	 */
-	protected SizeDAOValidatorRule sizeValidator = new SizeDAOValidatorRule();
+	protected DAOValidatorContext context;
 
 	/*
 	 * (non-Javadoc)
@@ -68,19 +60,22 @@ public class EntityExistValidatorRule implements IDAOValidator<EntityExistValida
 	@Override
 	public void initialize(EntityExistValidator annotation, EntityManager entityManager, DAOMode mode, DAOValidatorEvaluationTime evaluationTime) {
 		
-		// Sauvegarde des parametres
-		this.annotation = annotation;
-		this.entityManager = entityManager;
-		this.systemDAOMode = mode;
-		this.systemEvaluationTime = evaluationTime;
+		// Preparation de la regle
+		prepare(annotation);
+		
+		// Sauvegarde du contexte
+		this.context = new DAOValidatorContext(entityManager, mode, evaluationTime);
 	}
 	
 	/*
 	 * (non-Javadoc)
-	 * @see net.leadware.persistence.tools.validator.IDAOValidator#processValidation(java.lang.Object)
+	 * @see net.leadware.persistence.tools.api.validator.base.IReusableDAOValidator#prepare(java.lang.annotation.Annotation)
 	 */
 	@Override
-	public void processValidation(Object entity) {
+	public void prepare(final EntityExistValidator annotation) {
+		
+		// Sauvegarde de l'annotation
+		this.annotation = annotation;
 
 		// Si la classe cible n'est pas specifiee
 		if(annotation.targetClass() == null) {
@@ -180,11 +175,43 @@ public class EntityExistValidatorRule implements IDAOValidator<EntityExistValida
 			}
 		};
 
-		// Initialisation du validateur de regle
-		sizeValidator.initialize(sizeAnnotation, this.entityManager, this.systemDAOMode, this.systemEvaluationTime);
+		// Instanciation du validateur de regle
+		SizeDAOValidatorRule rule = new SizeDAOValidatorRule();
+		
+		// Preparation du validateur de regle
+		rule.prepare(sizeAnnotation);
+		
+		// Sauvegarde du validateur
+		sizeValidator = rule;
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.validator.IDAOValidator#processValidation(java.lang.Object)
+	 */
+	@Override
+	public void processValidation(Object entity) {
+		
+		// Validation dans le contexte lie
+		processValidation(entity, context);
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.api.validator.base.IReusableDAOValidator#processValidation(java.lang.Object, net.leadware.persistence.tools.api.validator.base.DAOValidatorContext)
+	 */
+	@Override
+	public void processValidation(Object entity, DAOValidatorContext context) {
+		
+		// Si la regle n'est pas applicable (classe cible ou champ id non specifie)
+		if(sizeValidator == null) {
+			
+			// On sort
+			return;
+		}
 		
 		// On valide
-		sizeValidator.processValidation(entity);
+		sizeValidator.processValidation(entity, context);
 	}
 
 	/* (non-Javadoc)
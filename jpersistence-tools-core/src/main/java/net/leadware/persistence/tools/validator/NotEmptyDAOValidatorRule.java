@@ -18,7 +18,9 @@
  */
 package net.leadware.persistence.tools.validator;
 
+import java.lang.annotation.Annotation;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import javax.persistence.Query;
 
@@ -27,6 +29,7 @@ import net.leadware.persistence.tools.api.dao.constants.DAOValidatorEvaluationTi
 import net.leadware.persistence.tools.api.dao.constants.ValidatorExpressionType;
 import net.leadware.persistence.tools.api.exceptions.DAOValidationException;
 import net.leadware.persistence.tools.api.validator.annotations.NotEmptyDAOValidator;
+import net.leadware.persistence.tools.api.validator.base.DAOValidatorContext;
 import net.leadware.persistence.tools.validator.base.AbstractExpressionBasedDAOValidatorRule;
 
 /**
@@ -37,15 +40,25 @@ import net.leadware.persistence.tools.validator.base.AbstractExpressionBasedDAOV
 @SuppressWarnings("unchecked")
 public class NotEmptyDAOValidatorRule extends AbstractExpressionBasedDAOValidatorRule {
 	
+	/**
+	 * Chargement de jointure (sans objet dans une sonde scalaire), quels que soient les blancs qui l'entourent
+	 */
+	private static final Pattern FETCH_PATTERN = Pattern.compile("\\sfetch\\s", Pattern.CASE_INSENSITIVE);
+	
+	/**
+	 * Sonde d'existence scalaire derivee de l'expression (null si l'expression ne peut etre reecrite)
+	 */
+	protected String probeExpression;
+	
 	/*
 	 * (non-Javadoc)
-	 * @see net.leadware.persistence.tools.validator.IDAOValidator#processValidation(java.lang.Object)
+	 * @see net.leadware.persistence.tools.api.validator.base.IReusableDAOValidator#processValidation(java.lang.Object, net.leadware.persistence.tools.api.validator.base.DAOValidatorContext)
 	 */
 	@Override
-	public void processValidation(Object entity) {
+	public void processValidation(Object entity, DAOValidatorContext context) {
 		
 		// Si on ne doit pas evaluer cette annotation
-		if(!this.isProcessable()) {
+		if(!this.isProcessable(context)) {
 			
 			// On sort
 			return;
@@ -60,8 +73,14 @@ public class NotEmptyDAOValidatorRule extends AbstractExpressionBasedDAOValidato
 		// Si le type est HQL|JPQL|EJBQL
 		if(type.equals(ValidatorExpressionType.HQL) || type.equals(ValidatorExpressionType.JPQL) || type.equals(ValidatorExpressionType.EJBQL)) {
 			
-			// On construit la requete
-			Query query = this.buildQuery(entity);
+			// On construit la requete (sonde scalaire si l'expression a pu etre reecrite)
+			Query query = probeExpression != null ? this.buildQuery(entity, context, probeExpression) : this.buildQuery(entity, context);
+			
+			// Une seule ligne suffit a prouver l'existence
+			query.setMaxResults(1);
+			
+			// Mode de vidage du contexte de persistance
+			query.setFlushMode(((NotEmptyDAOValidator) this.annotation).flushMode());
 			
 			// Execution
 			List<Object> result = query.getResultList();
@@ -71,6 +90,35 @@ public class NotEmptyDAOValidatorRule extends AbstractExpressionBasedDAOValidato
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.validator.base.AbstractExpressionBasedDAOValidatorRule#prepare(java.lang.annotation.Annotation)
+	 */
+	@Override
+	public void prepare(Annotation annotation) {
+		
+		// Preparation parent
+		super.prepare(annotation);
+		
+		// Expression transformee
+		String expression = expressionModel == null ? null : expressionModel.getComputedExpression();
+		
+		// Alias de la racine
+		String alias = getRootAlias(expression);
+		
+		// Une expression "from Entite alias ..." sans chargement de jointure est sondee par "select 1 from Entite alias ..." 
+		// (litteral numerique JPQL : aucune entite n'est construite ni ajoutee au contexte de persistance)
+		probeExpression = alias == null || FETCH_PATTERN.matcher(expression).find() ? null : "select 1 " + expression.trim();
+	}
+	
+	/**
+	 * Methode d'obtention de la sonde d'existence derivee de l'expression
+	 * @return	Sonde d'existence (null si l'expression est executee telle quelle)
+	 */
+	public String getProbeExpression() {
+		return probeExpression;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.leadware.persistence.tools.validator.base.AbstractExpressionBasedDAOValidatorRule#getExpression()
@@ -18,7 +18,9 @@
  */
 package net.leadware.persistence.tools.validator;
 
+import java.lang.annotation.Annotation;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import javax.persistence.Query;
 
@@ -27,6 +29,7 @@ import net.leadware.persistence.tools.api.dao.constants.DAOValidatorEvaluationTi
 import net.leadware.persistence.tools.api.dao.constants.ValidatorExpressionType;
 import net.leadware.persistence.tools.api.exceptions.DAOValidationException;
 import net.leadware.persistence.tools.api.validator.annotations.SizeDAOValidator;
+import net.leadware.persistence.tools.api.validator.base.DAOValidatorContext;
 import net.leadware.persistence.tools.validator.base.AbstractExpressionBasedDAOValidatorRule;
 
 /**
@@ -37,15 +40,25 @@ import net.leadware.persistence.tools.validator.base.AbstractExpressionBasedDAOV
 @SuppressWarnings("unchecked")
 public class SizeDAOValidatorRule extends AbstractExpressionBasedDAOValidatorRule {
 	
+	/**
+	 * Clauses empechant la reecriture en comptage (tri, regroupement, chargement de jointure), quels que soient les blancs qui les entourent
+	 */
+	private static final Pattern UNCOUNTABLE_CLAUSE_PATTERN = Pattern.compile("\\s(order\\s+by|group\\s+by|fetch)\\s", Pattern.CASE_INSENSITIVE);
+	
+	/**
+	 * Requete de comptage derivee de l'expression (null si l'expression ne peut etre reecrite)
+	 */
+	protected String countExpression;
+	
 	/*
 	 * (non-Javadoc)
-	 * @see net.leadware.persistence.tools.validator.IDAOValidator#processValidation(java.lang.Object)
+	 * @see net.leadware.persistence.tools.api.validator.base.IReusableDAOValidator#processValidation(java.lang.Object, net.leadware.persistence.tools.api.validator.base.DAOValidatorContext)
 	 */
 	@Override
-	public void processValidation(Object entity) {
+	public void processValidation(Object entity, DAOValidatorContext context) {
 		
 		// Si on ne doit pas evaluer cette annotation
-		if(!this.isProcessable()) {
+		if(!this.isProcessable(context)) {
 			
 			// On sort
 			return;
@@ -60,23 +73,26 @@ public class SizeDAOValidatorRule extends AbstractExpressionBasedDAOValidatorRul
 		// Si le type est HQL|JPQL|EJBQL
 		if(type.equals(ValidatorExpressionType.HQL) || type.equals(ValidatorExpressionType.JPQL) || type.equals(ValidatorExpressionType.EJBQL)) {
 			
-			// On construit la requte
-			Query query = this.buildQuery(entity);
+			// Le minimum
+			long min = ((SizeDAOValidator) this.annotation).min();
+			
+			// Le max
+			long max = ((SizeDAOValidator) this.annotation).max();
 			
-			// Execution
-			List<Object> result = query.getResultList();
+			// Si aucune borne n'est contraignante, il n'y a rien a verifier
+			if(min <= 0 && max == Long.MAX_VALUE) return;
 			
 			// La Taille
 			long size = 0;
 			
-			// Le minimum
-			long min = ((SizeDAOValidator) this.annotation).min();
+			// Si seule la borne superieure compte : on ne lit pas plus de max + 1 lignes
+			if(min <= 0 && max < Integer.MAX_VALUE) size = getCappedSize(entity, context, max + 1);
 			
-			// Le max
-			long max = ((SizeDAOValidator) this.annotation).max();
-						
-			// Si la liste n'est pas vide
-			if(result != null && result.size() > 0) size = result.size();
+			// Si l'expression se reecrit en comptage : comptage en base
+			else if(countExpression != null) size = ((Number) this.buildQuery(entity, context, countExpression).getSingleResult()).longValue();
+			
+			// Sinon : on ne lit que les lignes necessaires a la decision
+			else size = getCappedSize(entity, context, max < Integer.MAX_VALUE ? max + 1 : min);
 						
 			// On compare
 			if((min > size) || (max < size)) {
@@ -87,6 +103,71 @@ public class SizeDAOValidatorRule extends AbstractExpressionBasedDAOValidatorRul
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.validator.base.AbstractExpressionBasedDAOValidatorRule#prepare(java.lang.annotation.Annotation)
+	 */
+	@Override
+	public void prepare(Annotation annotation) {
+		
+		// Preparation parent
+		super.prepare(annotation);
+		
+		// Requete de comptage derivee de l'expression
+		countExpression = expressionModel == null ? null : buildCountExpression(expressionModel.getComputedExpression());
+	}
+	
+	/**
+	 * Methode de reecriture d'une expression "from Entite alias ..." en requete de comptage "select count(alias) from Entite alias ...".
+	 * Les expressions comportant deja une clause select, un tri, un regroupement ou un chargement de jointure ne sont pas reecrites
+	 * @param expression	Expression transformee
+	 * @return	Requete de comptage (null si l'expression ne peut etre reecrite)
+	 */
+	protected static String buildCountExpression(String expression) {
+		
+		// Si l'expression est vide
+		if(expression == null) return null;
+		
+		// Si l'expression comporte un tri, un regroupement ou un chargement de jointure
+		if(UNCOUNTABLE_CLAUSE_PATTERN.matcher(expression).find()) return null;
+		
+		// Alias de la racine
+		String alias = getRootAlias(expression);
+		
+		// On retourne la requete de comptage
+		return alias == null ? null : "select count(" + alias + ") " + expression.trim();
+	}
+	
+	/**
+	 * Methode d'obtention de la requete de comptage derivee de l'expression
+	 * @return	Requete de comptage (null si l'expression est evaluee par lecture bornee)
+	 */
+	public String getCountExpression() {
+		return countExpression;
+	}
+	
+	/**
+	 * Methode d'obtention du nombre de lignes de l'expression, lecture limitee a un nombre maximal de lignes
+	 * @param entity	Entite a valider
+	 * @param context	Contexte de l'appel
+	 * @param limit	Nombre maximal de lignes lues
+	 * @return	Nombre de lignes lues
+	 */
+	protected long getCappedSize(Object entity, DAOValidatorContext context, long limit) {
+		
+		// On construit la requete
+		Query query = this.buildQuery(entity, context);
+		
+		// Limitation du nombre de lignes lues
+		if(limit > 0 && limit <= Integer.MAX_VALUE) query.setMaxResults((int) limit);
+		
+		// Execution
+		List<Object> result = query.getResultList();
+		
+		// On retourne la taille
+		return result == null ? 0 : result.size();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.leadware.persistence.tools.validator.base.AbstractExpressionBasedDAOValidatorRule#getExpression()
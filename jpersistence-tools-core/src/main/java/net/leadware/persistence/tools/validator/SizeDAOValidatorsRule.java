@@ -22,6 +22,7 @@ import java.lang.annotation.Annotation;
 
 import net.leadware.persistence.tools.api.validator.annotations.SizeDAOValidator;
 import net.leadware.persistence.tools.api.validator.annotations.SizeDAOValidators;
+import net.leadware.persistence.tools.api.validator.base.IReusableDAOValidator;
 import net.leadware.persistence.tools.validator.base.AbstractDAOValidatorsRule;
 
 /**
@@ -33,30 +34,13 @@ public class SizeDAOValidatorsRule extends AbstractDAOValidatorsRule {
 	
 	/*
 	 * (non-Javadoc)
-	 * @see net.leadware.persistence.tools.validator.IDAOValidator#processValidation(java.lang.Object)
+	 * @see net.leadware.persistence.tools.validator.base.AbstractDAOValidatorsRule#createRule()
 	 */
 	@Override
-	public void processValidation(Object entity) {
+	protected IReusableDAOValidator<Annotation> createRule() {
 		
-		// Si la liste des validateurs est vide
-		if(this.validators == null || this.validators.length == 0) {
-						
-			// On sort
-			return;
-		}
-		
-		// Classe d'execution de la validation
-		SizeDAOValidatorRule rule = new SizeDAOValidatorRule();
-		
-		// Parcours de la liste
-		for (Annotation annotation : this.validators) {
-			
-			// On initialize
-			rule.initialize(annotation, entityManager, this.systemDAOMode, this.systemEvaluationTime);
-			
-			// On valide
-			rule.processValidation(entity);
-		}
+		// On retourne la classe d'execution de la validation
+		return new SizeDAOValidatorRule();
 	}
 
 	/*
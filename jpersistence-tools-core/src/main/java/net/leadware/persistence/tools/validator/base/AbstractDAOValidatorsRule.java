@@ -24,19 +24,16 @@ import javax.persistence.EntityManager;
 
 import net.leadware.persistence.tools.api.dao.constants.DAOMode;
 import net.leadware.persistence.tools.api.dao.constants.DAOValidatorEvaluationTime;
-import net.leadware.persistence.tools.api.validator.base.IDAOValidator;
+import net.leadware.persistence.tools.api.validator.base.DAOValidatorContext;
+import net.leadware.persistence.tools.api.validator.base.IReusableDAOValidator;
 
 /**
- * Classe abstraite definissant les bases de l'implementation d'une regle contenant d'autres regles de validation 
+ * Classe abstraite definissant les bases de l'implementation d'une regle contenant d'autres regles de validation.
+ * Les regles contenues sont preparees une seule fois ; une instance preparee est partageable
  * @author <a href="mailto:jetune@leadware.net">Jean-Jacques ETUNE NGI (Leadware Enterprise Architect)</a>
  * @since 31 janv. 2018 - 14:40:28
  */
-public abstract class AbstractDAOValidatorsRule implements IDAOValidator<Annotation> {
-
-	/**
-	 * Le gestionnaire d'entites
-	 */
-	protected EntityManager entityManager;
+public abstract class AbstractDAOValidatorsRule implements IReusableDAOValidator<Annotation> {
 	
 	/**
 	 * L'annotation en cours
@@ -47,16 +44,16 @@ public abstract class AbstractDAOValidatorsRule implements IDAOValidator<Annotat
 	 * Liste des annotations de validations contenues dans cette annotation
 	 */
 	protected Annotation[] validators;
-
+	
 	/**
-	 * Temps d'evaluation systeme
+	 * Regles preparees des annotations contenues
 	 */
-	protected DAOValidatorEvaluationTime systemEvaluationTime;
+	protected IReusableDAOValidator<Annotation>[] rules;
 	
 	/**
-	 * Mode DAO du systeme
+	 * Contexte lie par {@link #initialize(Annotation, EntityManager, DAOMode, DAOValidatorEvaluationTime)} (utilisation non partagee)
 	 */
-	protected DAOMode systemDAOMode;
+	protected DAOValidatorContext context;
 		
 	/**
 	 * Methode permettant d'obtenir la liste des Validateurs
@@ -64,17 +61,83 @@ public abstract class AbstractDAOValidatorsRule implements IDAOValidator<Annotat
 	 */
 	protected abstract Annotation[] getValidators();
 	
+	/**
+	 * Methode de creation de la regle d'une annotation contenue
+	 * @return	Regle (non preparee)
+	 */
+	protected abstract IReusableDAOValidator<Annotation> createRule();
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.api.validator.base.IReusableDAOValidator#prepare(java.lang.annotation.Annotation)
+	 */
 	@Override
-	public void initialize(Annotation annotation, EntityManager entityManager, DAOMode mode, DAOValidatorEvaluationTime evaluationTime) {
+	@SuppressWarnings("unchecked")
+	public void prepare(Annotation annotation) {
 		
-		// Sauvegarde des parametres
+		// Sauvegarde de l'annotation
 		this.annotation = annotation;
-		this.entityManager = entityManager;
-		this.systemDAOMode = mode;
-		this.systemEvaluationTime = evaluationTime;
 		
 		// Obtention des validateurs
 		this.validators = getValidators();
+		
+		// Si la liste des validateurs est vide
+		if(this.validators == null) return;
+		
+		// Regles preparees
+		IReusableDAOValidator<Annotation>[] preparedRules = (IReusableDAOValidator<Annotation>[]) new IReusableDAOValidator<?>[this.validators.length];
+		
+		// Parcours de la liste
+		for(int i = 0; i < this.validators.length; i++) {
+			
+			// Creation de la regle
+			preparedRules[i] = createRule();
+			
+			// Preparation de la regle
+			preparedRules[i].prepare(this.validators[i]);
+		}
+		
+		// Sauvegarde des regles
+		this.rules = preparedRules;
+	}
+	
+	@Override
+	public void initialize(Annotation annotation, EntityManager entityManager, DAOMode mode, DAOValidatorEvaluationTime evaluationTime) {
+		
+		// Preparation de la regle
+		prepare(annotation);
+		
+		// Sauvegarde du contexte
+		this.context = new DAOValidatorContext(entityManager, mode, evaluationTime);
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.api.validator.base.IDAOValidator#processValidation(java.lang.Object)
+	 */
+	@Override
+	public void processValidation(Object entity) {
+		
+		// Validation dans le contexte lie
+		processValidation(entity, context);
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.api.validator.base.IReusableDAOValidator#processValidation(java.lang.Object, net.leadware.persistence.tools.api.validator.base.DAOValidatorContext)
+	 */
+	@Override
+	public void processValidation(Object entity, DAOValidatorContext context) {
+		
+		// Si la liste des regles est vide
+		if(this.rules == null || this.rules.length == 0) {
+			
+			// On sort
+			return;
+		}
+		
+		// Parcours des regles : on valide
+		for (IReusableDAOValidator<Annotation> rule : this.rules) rule.processValidation(entity, context);
 	}
 	
 	@Override
@@ -21,7 +21,11 @@ package net.leadware.persistence.tools.validator.base;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Map;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import javax.persistence.EntityManager;
 import javax.persistence.Query;
@@ -29,21 +33,28 @@ import javax.persistence.Query;
 import net.leadware.persistence.tools.api.dao.constants.DAOMode;
 import net.leadware.persistence.tools.api.dao.constants.DAOValidatorEvaluationTime;
 import net.leadware.persistence.tools.api.dao.constants.ValidatorExpressionType;
-import net.leadware.persistence.tools.api.validator.base.IDAOValidator;
+import net.leadware.persistence.tools.api.validator.base.DAOValidatorContext;
+import net.leadware.persistence.tools.api.validator.base.IReusableDAOValidator;
 import net.leadware.persistence.tools.core.dao.utils.DAOValidatorHelper;
 import net.leadware.persistence.tools.core.dao.utils.ExpressionModel;
 
 /**
- * Classe abstraite definissant les bases de l'implementation d'une regle 
+ * Classe abstraite definissant les bases de l'implementation d'une regle.
+ * L'annotation et les modeles d'expressions sont prepares une seule fois ; une instance preparee est partageable
  * @author <a href="mailto:jetune@leadware.net">Jean-Jacques ETUNE NGI (Leadware Enterprise Architect)</a>
  * @since 31 janv. 2018 - 14:40:36
  */
-public abstract class AbstractExpressionBasedDAOValidatorRule implements IDAOValidator<Annotation> {
+public abstract class AbstractExpressionBasedDAOValidatorRule implements IReusableDAOValidator<Annotation> {
 	
 	/**
-	 * Le gestionnaire d'entites
+	 * Clause from initiale avec alias : "from Entite [as] alias"
 	 */
-	protected EntityManager entityManager;
+	private static final Pattern FROM_PATTERN = Pattern.compile("^\\s*from\\s+[\\w.$]+\\s+(as\\s+)?(\\w+)", Pattern.CASE_INSENSITIVE);
+	
+	/**
+	 * Mots reserves ne pouvant etre un alias
+	 */
+	private static final Set<String> RESERVED_WORDS = new HashSet<String>(Arrays.asList("where", "join", "inner", "left", "right", "outer", "order", "group", "having"));
 	
 	/**
 	 * L'annotation en cours
@@ -56,14 +67,14 @@ public abstract class AbstractExpressionBasedDAOValidatorRule implements IDAOVal
 	protected ExpressionModel expressionModel;
 	
 	/**
-	 * Temps d'evaluation systeme
+	 * Modeles des expressions de parametres du message
 	 */
-	protected DAOValidatorEvaluationTime systemEvaluationTime;
+	protected ExpressionModel[] messageParametersModels;
 	
 	/**
-	 * Mode DAO du systeme
+	 * Contexte lie par {@link #initialize(Annotation, EntityManager, DAOMode, DAOValidatorEvaluationTime)} (utilisation non partagee)
 	 */
-	protected DAOMode systemDAOMode;
+	protected DAOValidatorContext context;
 			
 	/**
 	 * Methode permettant d'obtenir l'expression
@@ -95,34 +106,100 @@ public abstract class AbstractExpressionBasedDAOValidatorRule implements IDAOVal
 	 */
 	protected abstract DAOValidatorEvaluationTime[] getAnnotationEvaluationTime();
 	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.api.validator.base.IReusableDAOValidator#prepare(java.lang.annotation.Annotation)
+	 */
 	@Override
-	public void initialize(Annotation annotation, EntityManager entityManager, DAOMode systemMode, DAOValidatorEvaluationTime systemEvaluationTime) {
+	public void prepare(Annotation annotation) {
 		
-		// Sauvegarde des parametres
+		// Sauvegarde de l'annotation
 		this.annotation = annotation;
-		this.entityManager = entityManager;
-		this.systemDAOMode = systemMode;
-		this.systemEvaluationTime = systemEvaluationTime;
 		
 		// Obtention de l'expression
 		String expression = getExpression();
 		
 		// Obtention du Type
 		expressionModel = DAOValidatorHelper.computeExpression(expression);
+		
+		// Obtention des expression de parametres du message
+		String[] parametersExpressions = getMessageParametersExpressions();
+		
+		// Si la liste est vide
+		if(parametersExpressions == null || parametersExpressions.length == 0) return;
+		
+		// Modeles des expressions de parametres
+		ExpressionModel[] models = new ExpressionModel[parametersExpressions.length];
+		
+		// Parcours (une expression invalide est signalee par un modele nul)
+		for(int i = 0; i < parametersExpressions.length; i++) {
+			
+			try {
+				
+				// Resolution de l'expression
+				models[i] = DAOValidatorHelper.computeExpression(parametersExpressions[i]);
+				
+			} catch (Exception e) {
+				
+				// Expression invalide
+				models[i] = null;
+			}
+		}
+		
+		// Sauvegarde des modeles
+		messageParametersModels = models;
+	}
+	
+	@Override
+	public void initialize(Annotation annotation, EntityManager entityManager, DAOMode systemMode, DAOValidatorEvaluationTime systemEvaluationTime) {
+		
+		// Preparation de la regle
+		prepare(annotation);
+		
+		// Sauvegarde du contexte
+		this.context = new DAOValidatorContext(entityManager, systemMode, systemEvaluationTime);
+	}
+	
+	/*
+	 * (non-Javadoc)
+	 * @see net.leadware.persistence.tools.api.validator.base.IDAOValidator#processValidation(java.lang.Object)
+	 */
+	@Override
+	public void processValidation(Object entity) {
+		
+		// Validation dans le contexte lie
+		processValidation(entity, context);
 	}
 	
 	/**
 	 * Methode de construction de la requete
 	 * @param target Objet cible
+	 * @param context	Contexte de l'appel
+	 * @return	Requete
+	 */
+	protected Query buildQuery(Object target, DAOValidatorContext context) {
+		
+		// Si le modele est null
+		if(expressionModel == null) return null;
+		
+		// On retourne la requete de l'expression
+		return buildQuery(target, context, expressionModel.getComputedExpression());
+	}
+	
+	/**
+	 * Methode de construction d'une requete derivee de l'expression (memes parametres que l'expression)
+	 * @param target Objet cible
+	 * @param context	Contexte de l'appel
+	 * @param expression	Requete derivee de l'expression transformee
 	 * @return	Requete
 	 */
-	protected Query buildQuery(Object target) {
+	protected Query buildQuery(Object target, DAOValidatorContext context, String expression) {
 		
 		// Si le modele est null
 		if(expressionModel == null) return null;
 		
 		// Instanciation de la requete
-		Query query = this.entityManager.createQuery(expressionModel.getComputedExpression());
+		Query query = context.getEntityManager().createQuery(expression);
 		
 		// MAP des parametres
 		Map<String, String> parameters = expressionModel.getParameters();
@@ -137,7 +214,7 @@ public abstract class AbstractExpressionBasedDAOValidatorRule implements IDAOVal
 			for (String key : keys) {
 				
 				// Ajout du parametre
-				query.setParameter(key, DAOValidatorHelper.evaluateValueExpression(parameters.get(key), target));
+				query.setParameter(key, expressionModel.evaluateParameter(key, target));
 			}
 		}
 		
@@ -145,17 +222,38 @@ public abstract class AbstractExpressionBasedDAOValidatorRule implements IDAOVal
 		return query;
 	}
 	
+	/**
+	 * Methode d'obtention de l'alias de la racine d'une expression "from Entite alias ..." sans clause select
+	 * @param expression	Expression transformee
+	 * @return	Alias de la racine (null si l'expression n'a pas cette forme)
+	 */
+	protected static String getRootAlias(String expression) {
+		
+		// Si l'expression est vide
+		if(expression == null) return null;
+		
+		// Analyse de la clause from
+		Matcher matcher = FROM_PATTERN.matcher(expression);
+		
+		// Si l'expression ne commence pas par une clause from avec alias
+		if(!matcher.find() || RESERVED_WORDS.contains(matcher.group(2).toLowerCase())) return null;
+		
+		// On retourne l'alias
+		return matcher.group(2);
+	}
+	
 	/**
 	 * methode permettant de tester si l'annotation doit-etre executee
+	 * @param context	Contexte de l'appel
 	 * @return	Etat d'execution de l'annotation
 	 */
-	protected boolean isProcessable() {
+	protected boolean isProcessable(DAOValidatorContext context) {
 		
 		// Comparaison des modes
-		boolean correctMode = DAOValidatorHelper.arraryContains(getAnnotationMode(), this.systemDAOMode);
+		boolean correctMode = DAOValidatorHelper.arraryContains(getAnnotationMode(), context.getSystemDAOMode());
 		
 		// Comparaison des instants d'evaluation
-		boolean correctTime = DAOValidatorHelper.arraryContains(getAnnotationEvaluationTime(), this.systemEvaluationTime);
+		boolean correctTime = DAOValidatorHelper.arraryContains(getAnnotationEvaluationTime(), context.getSystemEvaluationTime());
 		
 		// On retourne la comparaison des deux
 		return correctMode && correctTime;
@@ -168,52 +266,50 @@ public abstract class AbstractExpressionBasedDAOValidatorRule implements IDAOVal
 		String[] parametersExpressions = getMessageParametersExpressions();
 		
 		// Si la liste est vide
-		if(parametersExpressions == null || parametersExpressions.length == 0) return null;
+		if(parametersExpressions == null || parametersExpressions.length == 0 || messageParametersModels == null) return null;
 		
 		// Liste des Parametres
 		ArrayList<String> lParameters = new ArrayList<String>();
 		
-		// Modele d'expression
-		ExpressionModel expressionModel = null;
-		
-		// Parcours
-		LBLEXPR : for (String expr : parametersExpressions) {
+		// Parcours des modeles prepares
+		LBLEXPR : for (int i = 0; i < messageParametersModels.length; i++) {
 			
-			try {
-				
-				// Resolution de l'expression
-				expressionModel = DAOValidatorHelper.computeExpression(expr);
-				
-				// MAP des parametres
-				Map<String, String> exprParameters = expressionModel.getParameters();
+			// Modele d'expression
+			ExpressionModel expressionModel = messageParametersModels[i];
+			
+			// Si l'expression est invalide, on ajoute l'expression
+			if(expressionModel == null) {
 				
-				// Si la MAP est vide
-				if(exprParameters == null || exprParameters.size() == 0) continue LBLEXPR;
+				// On ajoute la cle
+				lParameters.add("[" + parametersExpressions[i] + "]");
 				
-				// Ensemble des cles
-				Set<String> keySet = exprParameters.keySet();
+				// Expression suivante
+				continue LBLEXPR;
+			}
+			
+			// MAP des parametres
+			Map<String, String> exprParameters = expressionModel.getParameters();
+			
+			// Si la MAP est vide
+			if(exprParameters == null || exprParameters.size() == 0) continue LBLEXPR;
+			
+			// Ensemble des cles
+			Set<String> keySet = exprParameters.keySet();
+			
+			// Parcours
+			for (String key : keySet) {
 				
-				// Parcours
-				for (String key : keySet) {
-					
-					try {
+				try {
 
-						// Ajout
-						lParameters.add(DAOValidatorHelper.evaluateValueExpression(exprParameters.get(key), entity).toString());
-						
-					} catch (Exception e) {
-						
-						// On ajoute la cle
-						lParameters.add("[" + key + "]");
-					}
+					// Ajout
+					lParameters.add(expressionModel.evaluateParameter(key, entity).toString());
+					
+				} catch (Exception e) {
+					
+					// On ajoute la cle
+					lParameters.add("[" + key + "]");
 				}
-				
-			} catch (Exception e) {
-				
-				// On ajoute la cle
-				lParameters.add("[" + expr + "]");
 			}
-			
 		}
 		
 		// Creation d'un Array de meme taille
@@ -19,12 +19,35 @@
 package net.leadware.persistence.tools.test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
+import javax.persistence.FlushModeType;
+import javax.persistence.Persistence;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
 import javax.validation.ConstraintViolationException;
 
 import org.hibernate.LazyInitializationException;
@@ -35,11 +58,32 @@ import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import net.leadware.persistence.tools.api.collection.utils.ConverterUtil;
+import net.leadware.persistence.tools.api.dao.constants.AggregateFunction;
+import net.leadware.persistence.tools.api.dao.constants.DAOMode;
+import net.leadware.persistence.tools.api.dao.constants.DAOValidatorEvaluationTime;
+import net.leadware.persistence.tools.api.dao.constants.OrderType;
+import net.leadware.persistence.tools.api.exceptions.DAOValidationException;
 import net.leadware.persistence.tools.api.exceptions.InvalidEntityInstanceStateException;
+import net.leadware.persistence.tools.api.exceptions.JPersistenceToolsException;
+import net.leadware.persistence.tools.api.utils.AggregationContainer;
+import net.leadware.persistence.tools.api.utils.KeysetCursor;
+import net.leadware.persistence.tools.api.utils.KeysetPage;
+import net.leadware.persistence.tools.api.utils.OrderContainer;
+import net.leadware.persistence.tools.api.utils.Page;
 import net.leadware.persistence.tools.api.utils.PropertyContainer;
 import net.leadware.persistence.tools.api.utils.RestrictionsContainer;
+import net.leadware.persistence.tools.api.utils.restrictions.Predicate;
+import net.leadware.persistence.tools.api.validator.annotations.SizeDAOValidator;
+import net.leadware.persistence.tools.api.validator.base.DAOValidatorContext;
+import net.leadware.persistence.tools.core.dao.impl.JPAGenericDAORulesBasedImpl;
+import net.leadware.persistence.tools.core.dao.utils.BoundedConcurrentCache;
+import net.leadware.persistence.tools.core.dao.utils.DAOValidationPlan;
+import net.leadware.persistence.tools.core.dao.utils.DAOValidatorHelper;
+import net.leadware.persistence.tools.core.dao.utils.ExpressionModel;
 import net.leadware.persistence.tools.test.dao.CountryDAO;
 import net.leadware.persistence.tools.test.dao.RegionDAO;
 import net.leadware.persistence.tools.test.dao.SXGroupDAO;
@@ -55,6 +99,8 @@ import net.leadware.persistence.tools.test.dao.entities.sx.SXRole;
 import net.leadware.persistence.tools.test.dao.entities.sx.SXUser;
 import net.leadware.persistence.tools.test.dao.entities.sx.constants.Sex;
 import net.leadware.persistence.tools.test.dao.entities.sx.constants.UserState;
+import net.leadware.persistence.tools.validator.NotEmptyDAOValidatorRule;
+import net.leadware.persistence.tools.validator.SizeDAOValidatorRule;
 
 
 /**
@@ -110,6 +156,18 @@ public class TestJPAGenericDAORulesBased {
 	@Autowired
     private SXUserDAO userDAO;
     
+    /**
+     * Gestionnaire de transactions (parcours en flux dans une transaction de l'appelant)
+     */
+	@Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    /**
+     * Gestionnaire d'entités transactionnel (modifications hors DAO dans les tests)
+     */
+	@PersistenceContext
+    private EntityManager entityManager;
+    
 	
 	/**
 	 * Countries
@@ -441,7 +499,1289 @@ public class TestJPAGenericDAORulesBased {
     		fail("Erreur: On devrait pas avoir une LazyInitializationException");
 		}
     }
-    
+
+    /**
+     * Méthode de test de l'enregistrement par lots
+     */
+    @Test
+    public void testSaveAll() {
+
+    	// Nombre initial de villes
+    	long count = townDao.count(null);
+
+    	// Villes à enregistrer
+    	List<Town> towns = new ArrayList<Town>();
+
+    	// Construction des villes
+    	for(int i = 0; i < 7; i++) towns.add(new Town("BT" + i, "BATCH TOWN " + i, r2));
+
+    	// Enregistrement par lots de 3
+    	List<Town> savedTowns = townDao.saveAll(towns, 3);
+
+    	// Vérification
+    	assertEquals(7, savedTowns.size());
+    	assertEquals(count + 7, townDao.count(null));
+    	for(Town town : savedTowns) assertNotNull(town.getId());
+
+    	// Villes dont la seconde viole la contrainte d'unicité du code (@SizeDAOValidator en mode SAVE)
+    	towns = ConverterUtil.convertArrayToList(new Town("BT7", "BATCH TOWN 7", r2), new Town("BT0", "BATCH TOWN 0", r2));
+
+    	try {
+
+    		// Tentative d'enregistrement
+    		townDao.saveAll(towns, 1);
+
+    		// Echec si pas d'erreur
+    		fail("L'opération DAO devrait lever une exception");
+
+		} catch (JPersistenceToolsException e) {
+
+			// Vérification du lot en échec
+			assertEquals("jpagenericdaorulesbased.saveall.chunk.error", e.getMessage());
+			assertEquals("1", e.getParameters()[0]);
+			assertTrue(e.getCause() instanceof DAOValidationException);
+		}
+
+    	// Aucun enregistrement supplémentaire (la transaction est annulée)
+    	assertEquals(count + 7, townDao.count(null));
+    }
+
+    /**
+     * Méthode de test de la mise à jour par lots
+     */
+    @Test
+    public void testUpdateAll() {
+
+    	// Modification des villes
+    	t1.setDesignation("YAOUNDE CAPITALE");
+    	t2.setDesignation("DOUALA PORT");
+
+    	// Map des villes à mettre à jour
+    	Map<Object, Town> towns = new LinkedHashMap<Object, Town>();
+    	towns.put(t1.getId(), t1);
+    	towns.put(t2.getId(), t2);
+
+    	// Mise à jour par lots de 1
+    	List<Town> updatedTowns = townDao.updateAll(towns, 1, true, true, false);
+
+    	// Vérification
+    	assertEquals(2, updatedTowns.size());
+    	assertEquals("YAOUNDE CAPITALE", townDao.findByPrimaryKey("id", t1.getId(), null).getDesignation());
+    	assertEquals("DOUALA PORT", townDao.findByPrimaryKey("id", t2.getId(), null).getDesignation());
+
+    	// Ville inexistante
+    	Town unknownTown = new Town("UNKN", "UNKNOWN", r1);
+    	unknownTown.setId(-1L);
+    	towns.clear();
+    	towns.put(unknownTown.getId(), unknownTown);
+
+    	try {
+
+    		// Tentative de mise à jour (sans pré-validation pour atteindre le contrôle d'existence groupé)
+    		townDao.updateAll(towns, 10, true, false, false);
+
+    		// Echec si pas d'erreur
+    		fail("L'opération DAO devrait lever une exception");
+
+		} catch (JPersistenceToolsException e) {
+
+			// Vérification
+			assertEquals("jpagenericdaorulesbased.update.entity.notfound", e.getMessage());
+		}
+
+    	// Version obsolète de la ville (déjà mise à jour)
+    	towns.clear();
+    	towns.put(t1.getId(), t1);
+
+    	try {
+
+    		// Tentative de mise à jour
+    		townDao.updateAll(towns, 10, true, false, false);
+
+    		// Echec si pas d'erreur
+    		fail("L'opération DAO devrait lever une exception");
+
+		} catch (JPersistenceToolsException e) {
+
+			// Vérification
+			assertEquals("jpagenericdaorulesbased.update.optimisticklockexception", e.getMessage());
+		}
+
+    	// Ville à jour (détachée)
+    	Town town = townDao.findByPrimaryKey("id", t3.getId(), null);
+    	town.setDesignation("NOUVELLE DESIGNATION");
+
+    	// Mise à jour dans une transaction de l'appelant : ses autres entités restent managées
+    	new TransactionTemplate(transactionManager).execute(status -> {
+
+    		// Entité sans rapport chargée par l'appelant
+    		Country country = countryDao.findByPrimaryKey("id", c2.getId(), null);
+
+    		// Mise à jour par lots
+    		townDao.updateAll(Collections.<Object, Town>singletonMap(town.getId(), town), 10, true, false, false);
+
+    		// Modification ultérieure de l'entité de l'appelant (synchronisée à la validation de la transaction)
+    		country.setDesignation("FRANCE METROPOLITAINE");
+
+    		// Pas de résultat
+    		return null;
+    	});
+
+    	// Vérification
+    	assertEquals("NOUVELLE DESIGNATION", townDao.findByPrimaryKey("id", t3.getId(), null).getDesignation());
+    	assertEquals("FRANCE METROPOLITAINE", countryDao.findByPrimaryKey("id", c2.getId(), null).getDesignation());
+    }
+
+    /**
+     * Méthode de test des suppressions ensemblistes
+     */
+    @Test
+    public void testDeleteAllAndDeleteWhere() {
+
+    	// Nombre initial de villes
+    	long count = townDao.count(null);
+
+    	// Enregistrement de villes non référencées
+    	List<Town> towns = townDao.saveAll(ConverterUtil.convertArrayToList(new Town("BT0", "BATCH TOWN 0", r2), new Town("BT1", "BATCH TOWN 1", r2), new Town("BT2", "BATCH TOWN 2", r2)), 0);
+
+    	// Suppression par ID (avec pré-validation groupée des contraintes DELETE)
+    	assertEquals(2, townDao.deleteAll(ConverterUtil.convertArrayToList(towns.get(0).getId(), towns.get(1).getId())));
+
+    	// Vérification
+    	assertEquals(count + 1, townDao.count(null));
+
+    	try {
+
+    		// Tentative de suppression d'une ville référencée par un utilisateur
+    		townDao.deleteAll(ConverterUtil.convertArrayToList(towns.get(2).getId(), t1.getId()));
+
+    		// Echec si pas d'erreur
+    		fail("L'opération DAO devrait lever une exception");
+
+		} catch (DAOValidationException e) {
+
+			// Vérification
+			assertEquals("Town.delete.used", e.getMessage());
+		}
+
+    	// Aucune suppression (la transaction est annulée)
+    	assertEquals(count + 1, townDao.count(null));
+
+    	// Suppression par prédicats
+    	assertEquals(1, townDao.deleteWhere(RestrictionsContainer.newInstance().addLike("code", "BT%").getRestrictions()));
+
+    	// Vérification
+    	assertEquals(count, townDao.count(null));
+
+    	// Nouvelles villes non référencées
+    	townDao.saveAll(ConverterUtil.convertArrayToList(new Town("BT3", "BATCH TOWN 3", r2), new Town("BT4", "BATCH TOWN 4", r2), new Town("BT5", "BATCH TOWN 5", r2)), 0);
+
+    	// Lots de 2 ID
+    	townDao.setBatchSize(2);
+
+    	try {
+
+    		// Suppression par prédicats (par lots d'ID) dans une transaction de l'appelant ayant une modification en attente
+    		int deleted = new TransactionTemplate(transactionManager).execute(status -> {
+
+    			// Modification non synchronisée d'une entité sans rapport
+    			countryDao.findByPrimaryKey("id", c2.getId(), null).setDesignation("FRANCE METROPOLITAINE");
+
+    			// Suppression
+    			return townDao.deleteWhere(RestrictionsContainer.newInstance().addLike("code", "BT%").getRestrictions());
+    		});
+
+    		// Vérification : toutes les villes sont supprimées et la modification en attente est conservée
+    		assertEquals(3, deleted);
+    		assertEquals(count, townDao.count(null));
+    		assertEquals("FRANCE METROPOLITAINE", countryDao.findByPrimaryKey("id", c2.getId(), null).getDesignation());
+
+    	} finally {
+
+    		// Taille des lots par défaut
+    		townDao.setBatchSize(JPAGenericDAORulesBasedImpl.DEFAULT_BATCH_SIZE);
+    	}
+    }
+
+    /**
+     * Méthode de test de la mise à jour ensembliste
+     */
+    @Test
+    public void testUpdateWhere() {
+
+    	// Version initiale de la ville t2
+    	Integer version = townDao.findByPrimaryKey("id", t2.getId(), null).getVersion();
+
+    	// Nouvelles valeurs
+    	Map<String, Object> assignments = new HashMap<String, Object>();
+    	assignments.put("designation", "VILLE DU LITTORAL");
+
+    	// Mise à jour des villes de la région r3
+    	assertEquals(2, townDao.updateWhere(RestrictionsContainer.newInstance().addEq("region.id", r3.getId()).getRestrictions(), assignments));
+
+    	// Vérification
+    	Town town = townDao.findByPrimaryKey("id", t2.getId(), null);
+    	assertEquals("VILLE DU LITTORAL", town.getDesignation());
+    	assertEquals(Integer.valueOf(version + 1), town.getVersion());
+    	assertEquals("VILLE DU LITTORAL", townDao.findByPrimaryKey("id", t3.getId(), null).getDesignation());
+
+    	// Affectation d'un code déjà utilisé
+    	assignments.clear();
+    	assignments.put("code", t1.getCode());
+
+    	try {
+
+    		// Tentative de mise à jour avec pré-validation des contraintes référentielles
+    		townDao.updateWhere(RestrictionsContainer.newInstance().addEq("code", t2.getCode()).getRestrictions(), assignments, true);
+
+    		// Echec si pas d'erreur
+    		fail("L'opération DAO devrait lever une exception");
+
+		} catch (DAOValidationException e) {
+
+			// Vérification
+			assertEquals("Town.update.code.notunique", e.getMessage());
+		}
+
+    	// Aucune modification
+    	assertEquals(t2.getCode(), townDao.findByPrimaryKey("id", t2.getId(), null).getCode());
+
+    	// Affectation d'un chemin pointé
+    	assignments.clear();
+    	assignments.put("region.code", "LTTR");
+
+    	try {
+
+    		// Tentative de mise à jour
+    		townDao.updateWhere(null, assignments, true);
+
+    		// Echec si pas d'erreur
+    		fail("L'opération DAO devrait lever une exception");
+
+		} catch (JPersistenceToolsException e) {
+
+			// Vérification
+			assertEquals("jpagenericdaorulesbased.updatewhere.assignment.invalid", e.getMessage());
+		}
+
+    	// Mise à jour validée dans une transaction de l'appelant ayant une modification en attente
+    	assignments.clear();
+    	assignments.put("designation", "VILLE DU CENTRE");
+    	int updated = new TransactionTemplate(transactionManager).execute(status -> {
+
+    		// Modification non synchronisée d'une entité sans rapport
+    		countryDao.findByPrimaryKey("id", c2.getId(), null).setDesignation("FRANCE METROPOLITAINE");
+
+    		// Ville concernée déjà managée par l'appelant
+    		Town managedTown = townDao.findByPrimaryKey("id", t1.getId(), null);
+    		String designation = managedTown.getDesignation();
+
+    		// Mise à jour
+    		int count = townDao.updateWhere(RestrictionsContainer.newInstance().addEq("code", t1.getCode()).getRestrictions(), assignments, true);
+
+    		// Vérification : l'instance de l'appelant n'est ni détachée ni modifiée par la pré-validation
+    		assertTrue(entityManager.contains(managedTown));
+    		assertEquals(designation, managedTown.getDesignation());
+
+    		// On retourne le nombre de lignes mises à jour
+    		return count;
+    	});
+
+    	// Vérification : la modification en attente est conservée
+    	assertEquals(1, updated);
+    	assertEquals("VILLE DU CENTRE", townDao.findByPrimaryKey("id", t1.getId(), null).getDesignation());
+    	assertEquals("FRANCE METROPOLITAINE", countryDao.findByPrimaryKey("id", c2.getId(), null).getDesignation());
+    }
+
+    /**
+     * Méthode de test du parcours en flux
+     */
+    @Test
+    public void testStream() {
+
+    	// Ordres de tri
+    	Map<String, OrderType> orders = new LinkedHashMap<String, OrderType>();
+    	orders.put("code", OrderType.ASC);
+
+    	// Codes des villes parcourues
+    	List<String> codes = new ArrayList<String>();
+
+    	// Parcours des villes par lots de 2
+    	try (Stream<Town> towns = townDao.stream(null, orders, null, 2)) {
+
+    		// Collecte des codes
+    		towns.forEach(town -> codes.add(town.getCode()));
+    	}
+
+    	// Vérification
+    	assertEquals(townDao.count(null), codes.size());
+    	assertEquals(Arrays.asList("BFSS", "DLA", "LMB", "MBLY", "YDE"), codes);
+
+    	// Parcours filtré
+    	try (Stream<Town> towns = townDao.stream(RestrictionsContainer.newInstance().addEq("region.id", r3.getId()).getRestrictions(), null, null, 1)) {
+
+    		// Vérification
+    		assertEquals(2, towns.count());
+    	}
+
+    	// Parcours dans une transaction de l'appelant, avec chargement des collections par lot
+    	List<String> countries = new TransactionTemplate(transactionManager).execute(status -> {
+
+    		// Codes des pays dont les régions sont chargées
+    		List<String> loaded = new ArrayList<String>();
+
+    		// Parcours des pays un par un
+    		try (Stream<Country> stream = countryDao.stream(null, null, new HashSet<String>(Arrays.asList("regions")), 1)) {
+
+    			// Collecte des pays dont la collection est initialisée
+    			stream.forEach(country -> {
+    				if(Persistence.getPersistenceUtil().isLoaded(country, "regions")) loaded.add(country.getCode());
+    			});
+    		}
+
+    		// On retourne les codes
+    		return loaded;
+    	});
+
+    	// Vérification
+    	assertEquals(countryDao.count(null), countries.size());
+    }
+
+    /**
+     * Méthode de test de la pagination par clés
+     */
+    @Test
+    public void testKeysetPagination() {
+
+    	// Ordres de tri (l'ordre de déclaration est conservé)
+    	Map<String, OrderType> orders = OrderContainer.newInstance().add("region.id", OrderType.ASC).add("designation", OrderType.DSC).getOrders();
+    	assertEquals(Arrays.asList("region.id", "designation"), new ArrayList<String>(orders.keySet()));
+
+    	// Résultat attendu (pagination par décalage, l'ID départageant les ex-aequo)
+    	Map<String, OrderType> expectedOrders = new LinkedHashMap<String, OrderType>(orders);
+    	expectedOrders.put("id", OrderType.ASC);
+    	List<Town> expected = townDao.filter(null, expectedOrders, null, 0, 0);
+
+    	// Villes parcourues page par page
+    	List<Town> towns = new ArrayList<Town>();
+
+    	// Première page
+    	KeysetPage<Town> page = townDao.filter(null, orders, null, (KeysetCursor) null, 2);
+    	towns.addAll(page.getContent());
+
+    	// Pages suivantes
+    	while(page.hasNext()) {
+
+    		// Page suivante
+    		page = townDao.filter(null, orders, null, page.getNextCursor(), 2);
+
+    		// Vérification de la taille
+    		assertTrue(page.getContent().size() > 0 && page.getContent().size() <= 2);
+
+    		// Collecte
+    		towns.addAll(page.getContent());
+    	}
+
+    	// Vérification
+    	assertEquals(expected.size(), towns.size());
+    	for(int i = 0; i < expected.size(); i++) assertEquals(expected.get(i).getId(), towns.get(i).getId());
+
+    	// Curseur réutilisé avec d'autres ordres de tri
+    	KeysetCursor cursor = townDao.filter(null, orders, null, (KeysetCursor) null, 2).getNextCursor();
+
+    	try {
+
+    		// Tentative de lecture
+    		townDao.filter(null, OrderContainer.newInstance().add("code", OrderType.ASC).getOrders(), null, cursor, 2);
+
+    		// Echec si pas d'erreur
+    		fail("L'opération DAO devrait lever une exception");
+
+		} catch (JPersistenceToolsException e) {
+
+			// Vérification
+			assertEquals("jpagenericdaorulesbased.keyset.cursor.mismatch", e.getMessage());
+		}
+
+    	// Clé de tri nulle pour les villes de la région r3
+    	townDao.updateWhere(RestrictionsContainer.newInstance().addEq("region.id", r3.getId()).getRestrictions(), Collections.<String, Object>singletonMap("designation", null));
+
+    	// Parcours dans les deux sens, page par page
+    	for (OrderType type : OrderType.values()) {
+
+    		// Villes parcourues
+    		towns.clear();
+
+    		// Parcours des pages
+    		page = townDao.filter(null, OrderContainer.newInstance().add("designation", type).getOrders(), null, (KeysetCursor) null, 1);
+    		towns.addAll(page.getContent());
+    		while(page.hasNext()) {
+    			page = townDao.filter(null, OrderContainer.newInstance().add("designation", type).getOrders(), null, page.getNextCursor(), 1);
+    			towns.addAll(page.getContent());
+    		}
+
+    		// Aucune ville sautée ni répétée
+    		Set<Long> ids = new HashSet<Long>();
+    		for (Town town : towns) ids.add(town.getId());
+    		assertEquals(expected.size(), towns.size());
+    		assertEquals(expected.size(), ids.size());
+
+    		// Valeurs nulles en tete en ASC et en queue en DSC
+    		int nullIndex = OrderType.ASC.equals(type) ? 0 : towns.size() - 2;
+    		assertNull(towns.get(nullIndex).getDesignation());
+    		assertNull(towns.get(nullIndex + 1).getDesignation());
+    	}
+    }
+
+    /**
+     * Méthode de test des appels concurrents de la méthode de filtre (sans verrou global)
+     * @throws Exception	Erreur d'exécution des threads
+     */
+    @Test
+    public void testConcurrentFilter() throws Exception {
+
+    	// La méthode de filtre ne doit plus etre synchronisée
+    	assertFalse(Modifier.isSynchronized(JPAGenericDAORulesBasedImpl.class.getMethod("filter", List.class, Map.class, Set.class, int.class, int.class).getModifiers()));
+
+    	// Nombre d'appels par thread
+    	int calls = 50;
+
+    	// Résultat de référence sur un thread
+    	List<Long> expected = runConcurrentFilters(1, calls).get(0);
+    	assertEquals(2 * calls, expected.size());
+
+    	// Nombre de threads
+    	int threads = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    	// Résultats des appels concurrents (une erreur d'un thread est relancée)
+    	List<List<Long>> results = runConcurrentFilters(threads, calls);
+
+    	// Chaque thread obtient le meme résultat que le thread unique
+    	assertEquals(threads, results.size());
+    	for (List<Long> result : results) assertEquals(expected, result);
+    }
+
+    /**
+     * Méthode d'exécution concurrente d'appels de la méthode de filtre (valeurs et formes de requete alternées)
+     * @param threads	Nombre de threads
+     * @param calls	Nombre d'appels par thread
+     * @return	ID des villes obtenues par chaque thread, dans l'ordre des appels
+     * @throws Exception	Erreur d'exécution des threads
+     */
+    private List<List<Long>> runConcurrentFilters(int threads, final int calls) throws Exception {
+
+    	// Pool de threads
+    	ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+    	// Barrière de démarrage simultané
+    	final CountDownLatch start = new CountDownLatch(1);
+
+    	// Tâches soumises
+    	List<Future<List<Long>>> futures = new ArrayList<Future<List<Long>>>();
+
+    	try {
+
+    		// Soumission des tâches
+    		for(int i = 0; i < threads; i++) futures.add(executor.submit(new Callable<List<Long>>() {
+
+    			@Override
+    			public List<Long> call() throws Exception {
+
+    				// ID des villes obtenues
+    				List<Long> ids = new ArrayList<Long>();
+
+    				// Attente du démarrage
+    				start.await();
+
+    				// Appels de la méthode de filtre
+    				for(int j = 0; j < calls; j++) {
+
+    					// Villes de la région r1 ou r3, triées par code dans un sens ou dans l'autre
+    					List<Town> towns = townDao.filter(RestrictionsContainer.newInstance().addEq("region.id", j % 2 == 0 ? r3.getId() : r1.getId()).getRestrictions(), 
+    							OrderContainer.newInstance().add("code", j % 4 < 2 ? OrderType.ASC : OrderType.DSC).getOrders(), null, 0, 0);
+
+    					// Collecte
+    					for (Town town : towns) ids.add(town.getId());
+    				}
+
+    				// On retourne les ID
+    				return ids;
+    			}
+    		}));
+
+    		// Démarrage
+    		start.countDown();
+
+    		// Résultats
+    		List<List<Long>> results = new ArrayList<List<Long>>();
+
+    		// Attente de la fin des tâches (une erreur d'un thread est relancée ici)
+    		for (Future<List<Long>> future : futures) results.add(future.get(60, TimeUnit.SECONDS));
+
+    		// On retourne les résultats
+    		return results;
+
+    	} finally {
+
+    		// Arret du pool
+    		executor.shutdownNow();
+    	}
+    }
+
+    /**
+     * Méthode de test du cache des requetes compilées
+     */
+    @Test
+    public void testQueryCache() {
+
+    	// Compteurs initiaux
+    	long hits = townDao.getQueryCacheHitCount();
+    	long misses = townDao.getQueryCacheMissCount();
+
+    	// Ordres de tri
+    	Map<String, OrderType> orders = OrderContainer.newInstance().add("code", OrderType.ASC).getOrders();
+
+    	// Premier filtre (forme mise en cache si absente)
+    	List<Town> towns = townDao.filter(RestrictionsContainer.newInstance().addLike("code", "%L%").getRestrictions(), orders, null, 0, 0);
+    	assertEquals(3, towns.size());
+    	assertEquals(t2.getCode(), towns.get(0).getCode());
+    	assertEquals(hits + misses + 1, townDao.getQueryCacheHitCount() + townDao.getQueryCacheMissCount());
+
+    	// Meme forme, autre valeur : la requete en cache est réutilisée
+    	hits = townDao.getQueryCacheHitCount();
+    	towns = townDao.filter(RestrictionsContainer.newInstance().addLike("code", "Y%").getRestrictions(), orders, null, 0, 0);
+    	assertEquals(1, towns.size());
+    	assertEquals(t1.getId(), towns.get(0).getId());
+    	assertEquals(hits + 1, townDao.getQueryCacheHitCount());
+
+    	// Comptage et recherche par clé de meme forme
+    	assertEquals(2, townDao.count(RestrictionsContainer.newInstance().addEq("region.id", r1.getId()).getRestrictions()));
+    	assertEquals(2, townDao.count(RestrictionsContainer.newInstance().addEq("region.id", r3.getId()).getRestrictions()));
+    	assertEquals(t1.getId(), townDao.findByUniqueProperty("code", t1.getCode(), null).getId());
+    	assertEquals(t3.getId(), townDao.findByUniqueProperty("code", t3.getCode(), null).getId());
+    	assertTrue(townDao.getQueryCacheHitCount() >= hits + 3);
+
+    	// La recherche par ID mappé passe par le gestionnaire d'entités, sans requete compilée
+    	misses = townDao.getQueryCacheMissCount();
+    	hits = townDao.getQueryCacheHitCount();
+    	assertEquals(t2.getCode(), townDao.findByPrimaryKey("id", t2.getId(), null).getCode());
+    	assertEquals(hits + misses, townDao.getQueryCacheHitCount() + townDao.getQueryCacheMissCount());
+
+    	// Cache plein : réinsérer une clé présente n'évince aucune entrée
+    	BoundedConcurrentCache<String, String> cache = new BoundedConcurrentCache<String, String>(2);
+    	cache.putIfAbsent("a", "A");
+    	cache.putIfAbsent("b", "B");
+    	assertEquals("A", cache.putIfAbsent("a", "X"));
+    	assertEquals("B", cache.get("b"));
+
+    	// Nouvelle clé : une entrée est évincée, la taille reste bornée
+    	assertEquals("C", cache.putIfAbsent("c", "C"));
+    	assertEquals(2, cache.size());
+    }
+
+    /**
+     * Méthode de test de la récupération d'une page avec le nombre total d'éléments
+     */
+    @Test
+    public void testPage() {
+
+    	// Ordres de tri
+    	Map<String, OrderType> orders = OrderContainer.newInstance().add("code", OrderType.ASC).getOrders();
+
+    	// Page pleine : le total est compté
+    	Page<Town> page = townDao.page(null, orders, null, 0, 2);
+    	assertEquals(Arrays.asList("BFSS", "DLA"), Arrays.asList(page.getContent().get(0).getCode(), page.getContent().get(1).getCode()));
+    	assertEquals(5, page.getTotalCount());
+    	assertTrue(page.hasNext());
+
+    	// Dernière page incomplète : le total est déduit
+    	long misses = townDao.getQueryCacheMissCount();
+    	long hits = townDao.getQueryCacheHitCount();
+    	page = townDao.page(null, orders, null, 4, 2);
+    	assertEquals(1, page.getContent().size());
+    	assertEquals(5, page.getTotalCount());
+    	assertFalse(page.hasNext());
+    	assertEquals(hits + misses + 1, townDao.getQueryCacheHitCount() + townDao.getQueryCacheMissCount());
+
+    	// Page vide au-delà du dernier élément : le total est compté
+    	page = townDao.page(RestrictionsContainer.newInstance().addEq("region.id", r3.getId()).getRestrictions(), orders, null, 10, 2);
+    	assertEquals(0, page.getContent().size());
+    	assertEquals(2, page.getTotalCount());
+    }
+
+    /**
+     * Méthode de test du filtre par projection
+     */
+    @Test
+    public void testFilterProjection() {
+
+    	// Ordres de tri
+    	Map<String, OrderType> orders = OrderContainer.newInstance().add("login", OrderType.ASC).getOrders();
+
+    	// Projection en Tuple
+    	List<Tuple> tuples = userDAO.filterProjection(null, orders, Arrays.asList("login", "email", "town.code"), Tuple.class, 0, 0);
+    	assertEquals(4, tuples.size());
+    	assertEquals("GUYTCHATCH", tuples.get(0).get("login"));
+    	assertEquals("guytchatch@yahoo.fr", tuples.get(0).get("email"));
+    	assertEquals(t2.getCode(), tuples.get(0).get("town.code"));
+
+    	// Projection en tableaux, paginée et filtrée
+    	List<Object[]> rows = userDAO.filterProjection(RestrictionsContainer.newInstance().addEq("town.id", t1.getId()).getRestrictions(), orders, Arrays.asList("login", "phone"), Object[].class, 1, 1);
+    	assertEquals(1, rows.size());
+    	assertEquals("VINCE_NTI", rows.get(0)[0]);
+    	assertEquals("94757270", rows.get(0)[1]);
+
+    	// Projection par constructeur : les instances ne sont pas managées
+    	List<Country> countries = countryDao.filterProjection(null, OrderContainer.newInstance().add("code", OrderType.ASC).getOrders(), Arrays.asList("code", "designation"), Country.class, 0, 2);
+    	assertEquals(2, countries.size());
+    	assertEquals("ANGL", countries.get(0).getCode());
+    	assertEquals(null, countries.get(0).getId());
+
+    	// Projection à travers une association vide : la ligne est conservée avec une colonne nulle (jointure externe)
+    	tuples = countryDao.filterProjection(RestrictionsContainer.newInstance().addEq("code", "ANGL").getRestrictions(), null, Arrays.asList("code", "regions.code"), Tuple.class, 0, 0);
+    	assertEquals(1, tuples.size());
+    	assertEquals("ANGL", tuples.get(0).get("code"));
+    	assertNull(tuples.get(0).get("regions.code"));
+
+    	try {
+
+    		// Projection sans colonne
+    		countryDao.filterProjection(null, null, new ArrayList<String>(), Tuple.class, 0, 0);
+
+    		// Echec si pas d'erreur
+    		fail("L'opération DAO devrait lever une exception");
+
+		} catch (JPersistenceToolsException e) {
+
+			// Vérification
+			assertEquals("jpagenericdaorulesbased.filterprojection.columns.empty", e.getMessage());
+		}
+    }
+
+    /**
+     * Méthode de test du calcul d'agrégats
+     */
+    @Test
+    public void testAggregate() {
+
+    	// Agrégats par région
+    	List<Tuple> rows = townDao.aggregate(null, AggregationContainer.newInstance()
+    			.add(AggregateFunction.COUNT, "id").add(AggregateFunction.MIN, "code").add(AggregateFunction.MAX, "code").groupBy("region.code"));
+
+    	// Vérification (lignes triées par code de région)
+    	assertEquals(3, rows.size());
+    	assertEquals(r1.getCode(), rows.get(0).get("region.code"));
+    	assertEquals(Long.valueOf(2), rows.get(0).get("count(id)"));
+    	assertEquals("MBLY", rows.get(0).get("min(code)"));
+    	assertEquals("YDE", rows.get(0).get("max(code)"));
+    	assertEquals(r2.getCode(), rows.get(2).get("region.code"));
+    	assertEquals(Long.valueOf(1), rows.get(2).get("count(id)"));
+
+    	// Agrégats globaux filtrés
+    	rows = townDao.aggregate(RestrictionsContainer.newInstance().addEq("region.id", r3.getId()).getRestrictions(), AggregationContainer.newInstance()
+    			.add(AggregateFunction.SUM, "id").add(AggregateFunction.AVG, "id").add(AggregateFunction.COUNT_DISTINCT, "region.id"));
+
+    	// Vérification
+    	assertEquals(1, rows.size());
+    	assertEquals(t2.getId() + t3.getId(), ((Number) rows.get(0).get("sum(id)")).longValue());
+    	assertEquals((t2.getId() + t3.getId()) / 2.0, ((Number) rows.get(0).get("avg(id)")).doubleValue(), 0.001);
+    	assertEquals(Long.valueOf(1), rows.get(0).get("count_distinct(region.id)"));
+
+    	try {
+
+    		// Propriété inexistante
+    		townDao.aggregate(null, AggregationContainer.newInstance().add(AggregateFunction.COUNT, "region.unknown"));
+
+    		// Echec si pas d'erreur
+    		fail("L'opération DAO devrait lever une exception");
+
+		} catch (JPersistenceToolsException e) {
+
+			// Vérification
+			assertEquals("jpagenericdaorulesbased.aggregate.property.invalid", e.getMessage());
+		}
+
+    	try {
+
+    		// Chemin traversant une collection
+    		countryDao.aggregate(null, AggregationContainer.newInstance().add(AggregateFunction.COUNT, "regions.code"));
+
+    		// Echec si pas d'erreur
+    		fail("L'opération DAO devrait lever une exception");
+
+		} catch (JPersistenceToolsException e) {
+
+			// Vérification
+			assertEquals("jpagenericdaorulesbased.aggregate.property.invalid", e.getMessage());
+		}
+
+    	try {
+
+    		// Somme sur une propriété non numérique
+    		townDao.aggregate(null, AggregationContainer.newInstance().add(AggregateFunction.SUM, "code"));
+
+    		// Echec si pas d'erreur
+    		fail("L'opération DAO devrait lever une exception");
+
+		} catch (JPersistenceToolsException e) {
+
+			// Vérification
+			assertEquals("jpagenericdaorulesbased.aggregate.function.invalid", e.getMessage());
+		}
+    }
+
+    /**
+     * Méthode de test du comptage simultané de plusieurs ensembles de prédicats
+     */
+    @Test
+    public void testCountAll() {
+
+    	// Ensembles de prédicats
+    	List<List<Predicate>> predicateSets = new ArrayList<List<Predicate>>();
+    	predicateSets.add(RestrictionsContainer.newInstance().addEq("region.id", r1.getId()).getRestrictions());
+    	predicateSets.add(RestrictionsContainer.newInstance().addEq("region.id", r3.getId()).addLike("code", "D%").getRestrictions());
+    	predicateSets.add(RestrictionsContainer.newInstance().addEq("code", "XXX").getRestrictions());
+
+    	// Comptage en une requete
+    	long[] counts = townDao.countAll(predicateSets);
+
+    	// Vérification
+    	assertEquals(3, counts.length);
+    	for(int i = 0; i < counts.length; i++) assertEquals(townDao.count(predicateSets.get(i)), counts[i]);
+
+    	// Ensemble vide : toutes les entités
+    	predicateSets.add(null);
+    	counts = townDao.countAll(predicateSets);
+    	assertEquals(2, counts[0]);
+    	assertEquals(1, counts[1]);
+    	assertEquals(0, counts[2]);
+    	assertEquals(townDao.count(null), counts[3]);
+    }
+
+    /**
+     * Méthode de test de l'existence d'entités
+     */
+    @Test
+    public void testExists() {
+
+    	// Par prédicats
+    	assertTrue(townDao.exists(RestrictionsContainer.newInstance().addEq("region.id", r3.getId()).getRestrictions()));
+    	assertTrue(townDao.exists(null));
+    	assertFalse(townDao.exists(RestrictionsContainer.newInstance().addEq("code", "XXX").getRestrictions()));
+
+    	// Par identifiant
+    	assertTrue(townDao.existsById(t1.getId()));
+    	assertFalse(townDao.existsById(-1L));
+    	assertTrue(userDAO.existsById(u1.getId()));
+    }
+
+    /**
+     * Méthode de test de la recherche par ID avec un graphe de chargement
+     */
+    @Test
+    public void testFindByPrimaryKeyFetchGraph() {
+
+    	// Recherche avec chargement de la région et de son pays
+    	Town town = townDao.findByPrimaryKey("id", t1.getId(), ConverterUtil.convertArrayToSet("region.country"));
+    	assertEquals("YDE", town.getCode());
+    	assertEquals(r1.getCode(), town.getRegion().getCode());
+    	assertEquals(c1.getCode(), town.getRegion().getCountry().getCode());
+
+    	// ID inexistant
+    	assertNull(townDao.findByPrimaryKey("id", -1L, ConverterUtil.convertArrayToSet("region")));
+
+    	// Recherche par une propriété non ID, avec et sans espaces autour du nom (meme requete en cache)
+    	assertEquals(t1.getId(), townDao.findByPrimaryKey(" code ", "YDE", null).getId());
+    	assertEquals(t1.getId(), townDao.findByPrimaryKey("code", "YDE", null).getId());
+
+    	// Entité déjà dans le contexte avec sa région mais sans le pays : le chemin complet est chargé
+    	boolean countryLoaded = new TransactionTemplate(transactionManager).execute(status -> {
+
+    		// Chargement de la ville et de sa région
+    		townDao.findByPrimaryKey("id", t1.getId(), ConverterUtil.convertArrayToSet("region"));
+
+    		// Chargement de la ville, de sa région et de son pays
+    		Town loaded = townDao.findByPrimaryKey("id", t1.getId(), ConverterUtil.convertArrayToSet("region.country"));
+
+    		// Etat de chargement du pays
+    		return Persistence.getPersistenceUtil().isLoaded(loaded.getRegion().getCountry());
+    	});
+
+    	// Vérification
+    	assertTrue(countryLoaded);
+    }
+
+    /**
+     * Méthode de test du filtre paginé avec chargement d'associations simples et de collections
+     */
+    @Test
+    public void testFilterFetchPlan() {
+
+    	// Ordres de tri
+    	Map<String, OrderType> orders = OrderContainer.newInstance().add("login", OrderType.ASC).getOrders();
+
+    	// Propriétés à charger (associations simples et collections)
+    	Set<String> properties = PropertyContainer.newInstance().add("town.region").add("groups").add("groups.roles").getProperties();
+
+    	// Deuxième page de 2 utilisateurs : la pagination n'est pas faussée par les collections
+    	List<SXUser> users = userDAO.filter(null, orders, properties, 2, 2);
+    	assertEquals(2, users.size());
+    	assertEquals("KCELESTINE", users.get(0).getLogin());
+    	assertEquals("VINCE_NTI", users.get(1).getLogin());
+
+    	// Associations simples chargées
+    	assertEquals("LTTR", users.get(0).getTown().getRegion().getCode());
+    	assertEquals("CNTR", users.get(1).getTown().getRegion().getCode());
+
+    	// Collections chargées
+    	assertEquals(1, users.get(0).getGroups().size());
+    	assertEquals(3, users.get(0).getGroups().iterator().next().getRoles().size());
+    	assertEquals(2, users.get(1).getGroups().iterator().next().getRoles().size());
+
+    	// Recherche par propriété unique avec les memes propriétés
+    	SXUser user = userDAO.findByUniqueProperty("login", "JETUNE", properties);
+    	assertEquals(5, user.getGroups().iterator().next().getRoles().size());
+    	assertEquals("CNTR", user.getTown().getRegion().getCode());
+    	// Recherche par ID avec les memes propriétés
+    	user = userDAO.findByPrimaryKey("id", u1.getId(), properties);
+    	assertEquals(5, user.getGroups().iterator().next().getRoles().size());
+    	assertEquals("CNTR", user.getTown().getRegion().getCode());
+    }
+
+    /**
+     * Méthode de test du filtre paginé en deux phases (ID puis entités avec leurs collections)
+     */
+    @Test
+    public void testTwoPhaseFilter() {
+
+    	// Ordres de tri décroissant
+    	Map<String, OrderType> orders = OrderContainer.newInstance().add("code", OrderType.DSC).getOrders();
+
+    	// Collection à charger
+    	Set<String> properties = PropertyContainer.newInstance().add("roles").getProperties();
+
+    	// Première page : ordre de la première phase conservé
+    	List<SXGroup> groups = groupDAO.filter(null, orders, properties, 0, 2);
+    	assertEquals(2, groups.size());
+    	assertEquals("USR", groups.get(0).getCode());
+    	assertEquals(3, groups.get(0).getRoles().size());
+    	assertEquals("ROOT", groups.get(1).getCode());
+    	assertEquals(5, groups.get(1).getRoles().size());
+
+    	// Deuxième page
+    	groups = groupDAO.filter(null, orders, properties, 2, 2);
+    	assertEquals(1, groups.size());
+    	assertEquals("ADM", groups.get(0).getCode());
+    	assertEquals(2, groups.get(0).getRoles().size());
+
+    	// Page au-delà du dernier élément
+    	assertTrue(groupDAO.filter(null, orders, properties, 3, 2).isEmpty());
+
+    	// Avec prédicats
+    	groups = groupDAO.filter(RestrictionsContainer.newInstance().addNotEq("code", "USR").getRestrictions(), orders, properties, 0, 1);
+    	assertEquals(1, groups.size());
+    	assertEquals("ROOT", groups.get(0).getCode());
+
+    	// Lots de 1 ID : la seconde phase est découpée en plusieurs listes IN, l'ordre de la première phase est conservé
+    	groupDAO.setBatchSize(1);
+
+    	try {
+
+    		// Page complète
+    		groups = groupDAO.filter(null, orders, properties, 0, 3);
+    		assertEquals(3, groups.size());
+    		assertEquals("USR", groups.get(0).getCode());
+    		assertEquals(3, groups.get(0).getRoles().size());
+    		assertEquals("ROOT", groups.get(1).getCode());
+    		assertEquals(5, groups.get(1).getRoles().size());
+    		assertEquals("ADM", groups.get(2).getCode());
+    		assertEquals(2, groups.get(2).getRoles().size());
+
+    	} finally {
+
+    		// Taille des lots par défaut
+    		groupDAO.setBatchSize(0);
+    	}
+    }
+
+    /**
+     * Méthode de test du chargement de plusieurs collections sœurs (une requete par collection)
+     */
+    @Test
+    public void testFilterSiblingCollections() {
+
+    	// Ordres de tri
+    	Map<String, OrderType> orders = OrderContainer.newInstance().add("login", OrderType.ASC).getOrders();
+
+    	// Deux collections sœurs, dont une avec une collection imbriquée
+    	Set<String> properties = PropertyContainer.newInstance().add("groups").add("groups.roles").add("privateRoles").getProperties();
+
+    	// Sans pagination
+    	List<SXUser> users = userDAO.filter(null, orders, properties, 0, 0);
+    	assertEquals(4, users.size());
+    	assertEquals("GUYTCHATCH", users.get(0).getLogin());
+    	assertEquals(3, users.get(0).getGroups().iterator().next().getRoles().size());
+    	assertTrue(users.get(0).getPrivateRoles().isEmpty());
+
+    	// Avec pagination (deux phases)
+    	users = userDAO.filter(null, orders, properties, 1, 2);
+    	assertEquals(2, users.size());
+    	assertEquals("JETUNE", users.get(0).getLogin());
+    	assertEquals(1, users.get(0).getGroups().size());
+    	assertEquals(5, users.get(0).getGroups().iterator().next().getRoles().size());
+    	assertTrue(users.get(0).getPrivateRoles().isEmpty());
+    	assertEquals("KCELESTINE", users.get(1).getLogin());
+    	assertTrue(users.get(1).getPrivateRoles().isEmpty());
+    }
+
+    /**
+     * Méthode de test du chargement groupé des associations d'une liste déjà chargée
+     */
+    @Test
+    public void testLoadAssociations() {
+
+    	// Villes chargées sans associations (détachées, régions non initialisées)
+    	List<Town> towns = townDao.filter(null, OrderContainer.newInstance().add("code", OrderType.ASC).getOrders(), null, 0, 0);
+    	assertEquals(5, towns.size());
+
+    	// Chargement des régions et de leurs pays (une requete par niveau)
+    	assertTrue(towns == townDao.loadAssociations(towns, "region.country"));
+    	assertEquals("BFSS", towns.get(0).getCode());
+    	assertEquals("DLA", towns.get(1).getCode());
+    	assertEquals("LTTR", towns.get(1).getRegion().getCode());
+    	assertEquals("CMR", towns.get(1).getRegion().getCountry().getCode());
+
+    	// Les villes d'une meme région partagent la meme instance chargée
+    	assertTrue(towns.get(1).getRegion() == towns.get(2).getRegion());
+
+    	// Utilisateurs : collection imbriquée et association simple
+    	List<SXUser> users = userDAO.filter(null, OrderContainer.newInstance().add("login", OrderType.ASC).getOrders(), null, 0, 0);
+    	userDAO.loadAssociations(users, "groups.roles", "town.region", "privateRoles");
+    	assertEquals(3, users.get(0).getGroups().iterator().next().getRoles().size());
+    	assertEquals(5, users.get(1).getGroups().iterator().next().getRoles().size());
+    	assertEquals("CNTR", users.get(1).getTown().getRegion().getCode());
+    	assertTrue(users.get(3).getPrivateRoles().isEmpty());
+
+    	try {
+
+    		// Chemin traversant une valeur simple
+    		townDao.loadAssociations(towns, "code.region");
+
+    		// Echec si pas d'erreur
+    		fail("L'opération DAO devrait lever une exception");
+
+    	} catch (JPersistenceToolsException e) {
+
+    		// Vérification du message
+    		assertEquals("jpagenericdaorulesbased.loadassociations.path.invalid", e.getMessage());
+    	}
+
+    	try {
+
+    		// Chemin désignant une propriété inconnue
+    		townDao.loadAssociations(towns, "region.unknown");
+
+    		// Echec si pas d'erreur
+    		fail("L'opération DAO devrait lever une exception");
+
+    	} catch (JPersistenceToolsException e) {
+
+    		// Vérification du message
+    		assertEquals("jpagenericdaorulesbased.loadassociations.path.invalid", e.getMessage());
+    	}
+    }
+
+    /**
+     * Méthode de test du chargement d'une hiérarchie Pays / Régions / Villes niveau par niveau
+     */
+    @Test
+    public void testLoadHierarchy() {
+
+    	// Pays dont le code commence par C, avec leurs régions et leurs villes
+    	List<Country> countries = countryDao.loadHierarchy(RestrictionsContainer.newInstance().addLike("code", "C%").getRestrictions(), 
+    			OrderContainer.newInstance().add("code", OrderType.ASC).getOrders(), "regions.towns");
+    	assertEquals(2, countries.size());
+
+    	// Chine : aucune région
+    	assertEquals("CHN", countries.get(0).getCode());
+    	assertTrue(countries.get(0).getRegions().isEmpty());
+
+    	// Cameroun : 3 régions, 5 villes
+    	assertEquals("CMR", countries.get(1).getCode());
+    	assertEquals(3, countries.get(1).getRegions().size());
+    	int towns = 0;
+    	for (Region region : countries.get(1).getRegions()) {
+    		towns += region.getTowns().size();
+    		if(region.getCode().equals("LTTR")) assertEquals(2, region.getTowns().size());
+    	}
+    	assertEquals(5, towns);
+    }
+
+    /**
+     * Méthode de test du plan de validation référentielle (calculé une fois, règles non applicables écartées, règles partagées)
+     */
+    @Test
+    public void testValidationPlan() {
+
+    	// Mise à jour : les deux règles UPDATE du regroupement
+    	DAOValidationPlan plan = DAOValidationPlan.getPlan(Country.class, DAOMode.UPDATE, DAOValidatorEvaluationTime.PRE_CONDITION);
+    	assertEquals(2, plan.getSteps().size());
+    	assertEquals("Country.update.id.notexist", ((SizeDAOValidator) plan.getSteps().get(0).getAnnotation()).message());
+
+    	// Enregistrement : la seule règle SAVE
+    	assertEquals(1, DAOValidationPlan.getPlan(Country.class, DAOMode.SAVE, DAOValidatorEvaluationTime.PRE_CONDITION).getSteps().size());
+
+    	// Aucune règle en suppression ni en post-condition
+    	assertTrue(DAOValidationPlan.getPlan(Country.class, DAOMode.DELETE, DAOValidatorEvaluationTime.PRE_CONDITION).isEmpty());
+    	assertTrue(DAOValidationPlan.getPlan(Country.class, DAOMode.SAVE, DAOValidatorEvaluationTime.POST_CONDITION).isEmpty());
+
+    	// Le plan est partagé
+    	assertTrue(plan == DAOValidationPlan.getPlan(Country.class, DAOMode.UPDATE, DAOValidatorEvaluationTime.PRE_CONDITION));
+
+    	// Les règles sont préparées une seule fois et partagées entre les appels
+    	assertTrue(plan.getSteps().get(0).getValidator() instanceof SizeDAOValidatorRule);
+    	countryDao.update(c1.getId(), c1);
+    	assertTrue(plan.getSteps().get(0).getValidator() == DAOValidationPlan.getPlan(Country.class, DAOMode.UPDATE, DAOValidatorEvaluationTime.PRE_CONDITION).getSteps().get(0).getValidator());
+    }
+
+    /**
+     * Méthode de test de la réécriture des expressions de taille en requete de comptage
+     */
+    @Test
+    public void testSizeValidatorCountExpression() {
+
+    	// Règle préparée pour la borne inférieure (min = 1) : comptage en base
+    	SizeDAOValidatorRule rule = (SizeDAOValidatorRule) DAOValidationPlan.getPlan(Country.class, DAOMode.UPDATE, DAOValidatorEvaluationTime.PRE_CONDITION).getSteps().get(0).getValidator();
+    	assertNotNull(rule.getCountExpression());
+    	assertTrue(rule.getCountExpression().startsWith("select count(c) from Country c"));
+
+    	// Expression simple
+    	assertEquals("select count(c) from Country c where (c.id = 1)", CountExpressionRule.countExpression("from Country c where (c.id = 1)"));
+
+    	// Tri, regroupement ou chargement de jointure, quels que soient les blancs : lecture bornée
+    	assertNull(CountExpressionRule.countExpression("from Country c where (c.id = 1)\norder by c.code"));
+    	assertNull(CountExpressionRule.countExpression("from Country c\tGROUP  BY c.code"));
+    	assertNull(CountExpressionRule.countExpression("from Region r join\n\tfetch r.country"));
+    }
+
+    /**
+     * Méthode de test des règles de taille (lecture bornée pour une borne supérieure, comptage pour une borne inférieure)
+     */
+    @Test
+    public void testSizeValidatorRule() {
+
+    	try {
+
+    		// Borne supérieure (max = 0) : code déjà utilisé
+    		countryDao.save(new Country("CMR", "CAMEROUN BIS"));
+
+    		// Echec si pas d'erreur
+    		fail("L'opération DAO devrait lever une exception");
+
+    	} catch (DAOValidationException e) {
+
+    		// Vérification
+    		assertEquals("Country.save.code.exist", e.getMessage());
+    	}
+
+    	// Pays inexistant
+    	Country ghost = new Country("GHOST", "GHOST");
+    	ghost.setId(-1L);
+
+    	try {
+
+    		// Borne inférieure (min = 1) : comptage en base
+    		countryDao.update(ghost.getId(), ghost);
+
+    		// Echec si pas d'erreur
+    		fail("L'opération DAO devrait lever une exception");
+
+    	} catch (DAOValidationException e) {
+
+    		// Vérification
+    		assertEquals("Country.update.id.notexist", e.getMessage());
+    	}
+
+    	// Mise à jour valide : les deux bornes sont respectées
+    	c2.setDesignation("FRANCE METROPOLITAINE");
+    	assertEquals("FRANCE METROPOLITAINE", countryDao.update(c2.getId(), c2).getDesignation());
+    }
+
+    /**
+     * Méthode de test de la règle de non vacuité (sonde d'existence)
+     */
+    @Test
+    public void testNotEmptyValidatorRule() {
+
+    	// Région inexistante
+    	Region ghost = new Region("GHOST", "GHOST", c1);
+    	ghost.setId(-1L);
+
+    	try {
+
+    		// Enregistrement d'une ville rattachée à une région inexistante
+    		townDao.save(new Town("GHT", "GHOST TOWN", ghost));
+
+    		// Echec si pas d'erreur
+    		fail("L'opération DAO devrait lever une exception");
+
+    	} catch (DAOValidationException e) {
+
+    		// Vérification
+    		assertEquals("Town.save.region.notexist", e.getMessage());
+    	}
+
+    	// Région existante
+    	assertNotNull(townDao.save(new Town("EDEA", "EDEA", r3)).getId());
+
+    	// Sonde scalaire : aucune entité n'est construite
+    	NotEmptyDAOValidatorRule rule = (NotEmptyDAOValidatorRule) DAOValidationPlan.getPlan(Town.class, DAOMode.SAVE, DAOValidatorEvaluationTime.PRE_CONDITION).getSteps().get(1).getValidator();
+    	assertTrue(rule.getProbeExpression().startsWith("select 1 from Region r"));
+
+    	// Mode de vidage COMMIT : la modification en attente de la région n'est pas vidée avant la sonde
+    	boolean unflushed = new TransactionTemplate(transactionManager).execute(status -> {
+
+    		// Modification de la région dans le contexte (non vidée)
+    		Region region = regionDao.findByPrimaryKey("id", r3.getId(), null);
+    		String designation = region.getDesignation();
+    		region.setDesignation("LITTORAL MODIFIE");
+
+    		// Validation d'une ville de cette région par la seule règle de non vacuité
+    		rule.processValidation(new Town("KRB", "KRIBI", region), new DAOValidatorContext(entityManager, DAOMode.SAVE, DAOValidatorEvaluationTime.PRE_CONDITION));
+
+    		// Annulation
+    		status.setRollbackOnly();
+
+    		// La désignation en base (lue sans vidage) est inchangée
+    		return designation.equals(entityManager.createQuery("select r.designation from Region r where r.id = :id").setParameter("id", r3.getId()).setFlushMode(FlushModeType.COMMIT).getSingleResult());
+    	});
+
+    	// Vérification
+    	assertTrue(unflushed);
+
+    	// Pays inexistant
+    	Country ghostCountry = new Country("GHOST", "GHOST");
+    	ghostCountry.setId(-1L);
+
+    	try {
+
+    		// Enregistrement d'une région rattachée à un pays inexistant (regroupement @NotEmptyDAOValidators)
+    		regionDao.save(new Region("GHST", "GHOST REGION", ghostCountry));
+
+    		// Echec si pas d'erreur
+    		fail("L'opération DAO devrait lever une exception");
+
+    	} catch (DAOValidationException e) {
+
+    		// Vérification
+    		assertEquals("Region.save.country.notexist", e.getMessage());
+    	}
+
+    	// Pays existant
+    	assertNotNull(regionDao.save(new Region("SUD", "SUD", c1)).getId());
+    }
+
+    /**
+     * Méthode de test du cache partagé des expressions analysées
+     */
+    @Test
+    public void testExpressionCache() {
+
+    	// Préchauffage sur les classes d'entités : toutes les expressions sont résolues
+    	assertTrue(DAOValidatorHelper.warmUpExpressionCache(Arrays.<Class<?>>asList(Country.class, Region.class, Town.class)) >= 4);
+
+    	// Expression déjà en cache : même modèle immuable
+    	long hits = DAOValidatorHelper.getExpressionCache().getHitCount();
+    	ExpressionModel model = DAOValidatorHelper.computeExpression("from Country c where (c.code = ${code})");
+    	assertTrue(model == DAOValidatorHelper.computeExpression("from Country c where (c.code = ${code})"));
+    	assertEquals(hits + 2, DAOValidatorHelper.getExpressionCache().getHitCount());
+    	assertTrue(model.isImmutable());
+    	assertEquals("from Country c where (c.code = :var0)", model.getComputedExpression());
+
+    	// Paramètre évalué par l'évaluateur pré-analysé
+    	assertEquals("CMR", model.evaluateParameter("var0", c1));
+
+    	// Le modèle partagé n'est pas modifiable
+    	try {
+
+    		// Tentative de modification
+    		model.addParameter("var1", "${name}");
+
+    		// Echec si pas d'erreur
+    		fail("Le modèle partagé ne devrait pas être modifiable");
+
+    	} catch (UnsupportedOperationException e) {}
+
+    	// Nouvelle expression : un échec puis des succès
+    	long misses = DAOValidatorHelper.getExpressionCache().getMissCount();
+    	DAOValidatorHelper.computeExpression("from Town t where (t.name = ${name}) and (t.code = ${code})");
+    	DAOValidatorHelper.computeExpression("from Town t where (t.name = ${name}) and (t.code = ${code})");
+    	assertEquals(misses + 1, DAOValidatorHelper.getExpressionCache().getMissCount());
+
+    	// Les expressions de valeur sont également analysées une seule fois
+    	assertEquals("CMR", DAOValidatorHelper.evaluateValueExpression("${code}", c1));
+    	hits = DAOValidatorHelper.getValueExpressionCache().getHitCount();
+    	assertEquals(c1.getId(), DAOValidatorHelper.evaluateValueExpression("${id}", c1));
+    	assertEquals(c1.getId(), DAOValidatorHelper.evaluateValueExpression("${id}", c1));
+    	assertTrue(DAOValidatorHelper.getValueExpressionCache().getHitCount() >= hits + 1);
+    }
+
+    /**
+     * Méthode de test du chargement groupé d'entités par ID et par propriété unique
+     */
+    @Test
+    public void testFindAll() {
+
+    	// Lots de 2 valeurs : plusieurs listes IN
+    	townDao.setBatchSize(2);
+
+    	try {
+
+    		// Par identifiant (doublons, valeurs nulles et ID inexistants ignorés)
+    		Map<Object, Town> towns = townDao.findAllByPrimaryKeys("id", Arrays.asList(t1.getId(), t2.getId(), t3.getId(), t1.getId(), null, -1L), ConverterUtil.convertArrayToSet("region"));
+    		assertEquals(3, towns.size());
+    		assertEquals("YDE", towns.get(t1.getId()).getCode());
+    		assertEquals("LMB", towns.get(t3.getId()).getCode());
+    		assertEquals(r3.getId(), towns.get(t2.getId()).getRegion().getId());
+
+    		// Par propriété unique
+    		towns = townDao.findAllByUniqueProperty("code", Arrays.asList("YDE", "DLA", "XXX"), null);
+    		assertEquals(2, towns.size());
+    		assertEquals(t1.getId(), towns.get("YDE").getId());
+    		assertEquals(t2.getId(), towns.get("DLA").getId());
+
+    		// Collection vide
+    		assertTrue(townDao.findAllByPrimaryKeys("id", null, null).isEmpty());
+
+    		// Entité déjà dans le contexte de persistance : résolue sans requete
+    		new TransactionTemplate(transactionManager).execute(status -> {
+
+    			// Enregistrement d'une ville (managée dans le contexte)
+    			Town managed = townDao.save(new Town("CTX", "CONTEXT TOWN", r2));
+
+    			// Suppression ensembliste de la ligne (le contexte de persistance n'est pas modifié)
+    			entityManager.createQuery("delete from Town t where t.id = :id").setParameter("id", managed.getId()).executeUpdate();
+
+    			// Chargement groupé : la ville supprimée n'est visible que par le contexte
+    			Map<Object, Town> loaded = townDao.findAllByPrimaryKeys("id", Arrays.asList(managed.getId(), t2.getId()), null);
+    			assertEquals(2, loaded.size());
+    			assertTrue(managed == loaded.get(managed.getId()));
+
+    			// Existence : résolue par le contexte, sans requete
+    			assertTrue(townDao.existsById(managed.getId()));
+
+    			// Annulation de la suppression
+    			status.setRollbackOnly();
+    			return null;
+    		});
+
+    	} finally {
+
+    		// Taille des lots par défaut
+    		townDao.setBatchSize(0);
+    	}
+    }
+
     /**
      * Méthode de vidage de la base de données
      */
@@ -517,4 +1857,19 @@ public class TestJPAGenericDAORulesBased {
 	    	userDAO.save(new SXUser("Celestine", "KANMO", Sex.WOMAN, "kcelestine", 
 	    			"celestine", "kcelestine@yahoo.fr", "77735678", UserState.VALID, t3, ConverterUtil.convertArrayToSet(g3)));
     }
+
+    /**
+     * Règle de taille exposant la réécriture en comptage
+     */
+    private static class CountExpressionRule extends SizeDAOValidatorRule {
+
+    	/**
+    	 * Méthode d'obtention de la requete de comptage d'une expression
+    	 * @param expression	Expression
+    	 * @return	Requete de comptage (null si l'expression ne peut etre réécrite)
+    	 */
+    	static String countExpression(String expression) {
+    		return buildCountExpression(expression);
+    	}
+    }
 }
\ No newline at end of file
@@ -18,8 +18,11 @@
  */
 package net.leadware.persistence.tools.test.dao.entities;
 
+import java.util.Set;
+
 import javax.persistence.DiscriminatorValue;
 import javax.persistence.Entity;
+import javax.persistence.OneToMany;
 
 import net.leadware.persistence.tools.api.dao.constants.DAOMode;
 import net.leadware.persistence.tools.api.validator.annotations.SizeDAOValidator;
@@ -46,6 +49,12 @@ public class Country extends TPHParameterBase {
 	 */
 	private static final long serialVersionUID = 1L;
 	
+	/**
+	 * Regions du pays
+	 */
+	@OneToMany(mappedBy = "country")
+	private Set<Region> regions;
+	
 	/**
 	 * Constructeur par defaut
 	 */
@@ -65,4 +74,20 @@ public class Country extends TPHParameterBase {
 		// Appel parent
 		super(code, designation);
 	}
+	
+	/**
+	 * Methode d'obtention des Regions du pays
+	 * @return	Regions du pays
+	 */
+	public Set<Region> getRegions() {
+		return regions;
+	}
+
+	/**
+	 * Methode de mise a jour des Regions du pays
+	 * @param regions Regions du pays
+	 */
+	public void setRegions(Set<Region> regions) {
+		this.regions = regions;
+	}
 }
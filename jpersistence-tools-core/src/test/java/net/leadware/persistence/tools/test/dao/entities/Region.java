@@ -18,14 +18,19 @@
  */
 package net.leadware.persistence.tools.test.dao.entities;
 
+import java.util.Set;
+
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
 import javax.persistence.Table;
 import javax.validation.constraints.NotNull;
 
 import net.leadware.persistence.tools.api.dao.constants.DAOMode;
+import net.leadware.persistence.tools.api.validator.annotations.NotEmptyDAOValidator;
+import net.leadware.persistence.tools.api.validator.annotations.NotEmptyDAOValidators;
 import net.leadware.persistence.tools.api.validator.annotations.SizeDAOValidator;
 import net.leadware.persistence.tools.api.validator.annotations.SizeDAOValidators;
 import net.leadware.persistence.tools.test.dao.entities.base.TPSParameterBase;
@@ -41,6 +46,10 @@ import net.leadware.persistence.tools.test.dao.entities.base.TPSParameterBase;
 	@SizeDAOValidator(mode = DAOMode.UPDATE, expr = "from Region r where (r.id = ${id})", min = 1, message = "Region.update.id.notexist"),
 	@SizeDAOValidator(mode = DAOMode.UPDATE, expr = "from Region r where (r.id != ${id}) and (r.code = ${code})", max = 0, message = "Region.update.code.notunique")
 })
+@NotEmptyDAOValidators({
+	@NotEmptyDAOValidator(mode = DAOMode.SAVE,   expr = "from Country c where (c.id = ${country.id})", message = "Region.save.country.notexist"),
+	@NotEmptyDAOValidator(mode = DAOMode.UPDATE, expr = "from Country c where (c.id = ${country.id})", message = "Region.update.country.notexist")
+})
 @Entity(name = "Region")
 @Table(name = "GENEZIS_REGION")
 public class Region extends TPSParameterBase {
@@ -58,6 +67,12 @@ public class Region extends TPSParameterBase {
 	@NotNull(message = "Region.country.null")
 	private Country  country;
 	
+	/**
+	 * Villes de la region
+	 */
+	@OneToMany(mappedBy = "region")
+	private Set<Town> towns;
+	
 	/**
 	 * Constructeur par defaut
 	 */
@@ -97,4 +112,20 @@ public class Region extends TPSParameterBase {
 	public void setCountry(Country country) {
 		this.country = country;
 	}
+
+	/**
+	 * Methode d'obtention des Villes de la region
+	 * @return	Villes de la region
+	 */
+	public Set<Town> getTowns() {
+		return towns;
+	}
+
+	/**
+	 * Methode de mise a jour des Villes de la region
+	 * @param towns Villes de la region
+	 */
+	public void setTowns(Set<Town> towns) {
+		this.towns = towns;
+	}
 }
@@ -20,12 +20,14 @@ package net.leadware.persistence.tools.test.dao.entities;
 
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
+import javax.persistence.FlushModeType;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
 import javax.validation.constraints.NotNull;
 
 import net.leadware.persistence.tools.api.dao.constants.DAOMode;
+import net.leadware.persistence.tools.api.validator.annotations.NotEmptyDAOValidator;
 import net.leadware.persistence.tools.api.validator.annotations.SizeDAOValidator;
 import net.leadware.persistence.tools.api.validator.annotations.SizeDAOValidators;
 import net.leadware.persistence.tools.test.dao.entities.base.TPSParameterBase;
@@ -39,8 +41,10 @@ import net.leadware.persistence.tools.test.dao.entities.base.TPSParameterBase;
 @SizeDAOValidators({
 	@SizeDAOValidator(mode = DAOMode.SAVE,   expr = "from Town t where (t.code = ${code})", max = 0, message = "Town.save.code.exist"),
 	@SizeDAOValidator(mode = DAOMode.UPDATE, expr = "from Town t where (t.id = ${id})", min = 1, message = "Town.update.id.notexist"),
-	@SizeDAOValidator(mode = DAOMode.UPDATE, expr = "from Town t where (t.id != ${id}) and (t.code = ${code})", max = 0, message = "Town.update.code.notunique")
+	@SizeDAOValidator(mode = DAOMode.UPDATE, expr = "from Town t where (t.id != ${id}) and (t.code = ${code})", max = 0, message = "Town.update.code.notunique"),
+	@SizeDAOValidator(mode = DAOMode.DELETE, expr = "from SXUser u where (u.town.id = ${id})", max = 0, message = "Town.delete.used")
 })
+@NotEmptyDAOValidator(mode = DAOMode.SAVE, expr = "from Region r where (r.id = ${region.id})", message = "Town.save.region.notexist", flushMode = FlushModeType.COMMIT)
 @Entity(name = "Town")
 @Table(name = "GENEZIS_TOWN")
 public class Town extends TPSParameterBase {
@@ -293,6 +293,14 @@ public class UserBase implements Serializable, Comparable<UserBase> {
 		this.phone = phone;
 	}
 
+	/**
+	 * Methode d'obtention de la ville de l'utilisateur
+	 * @return Ville de l'utilisateur
+	 */
+	public Town getTown() {
+		return town;
+	}
+
 	/**
 	 * Methode d'obtention de l'etat de l'utilisateur
 	 * @return Etat de l'utilisateur
@@ -18,14 +18,21 @@
  */
 package net.leadware.persistence.tools.test.dao.impl;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
 
 import net.leadware.persistence.tools.api.dao.constants.OrderType;
+import net.leadware.persistence.tools.api.utils.AggregationContainer;
+import net.leadware.persistence.tools.api.utils.KeysetCursor;
+import net.leadware.persistence.tools.api.utils.KeysetPage;
+import net.leadware.persistence.tools.api.utils.Page;
 import net.leadware.persistence.tools.api.utils.restrictions.Predicate;
 import net.leadware.persistence.tools.core.dao.impl.JPAGenericDAORulesBasedImpl;
 import net.leadware.persistence.tools.test.dao.SXRoleDAO;
@@ -124,4 +131,134 @@ public class SXRoleDAOImpl extends JPAGenericDAORulesBasedImpl<SXRole> implement
 		// TODO Auto-generated method stub
 		return super.filter(predicates, orders, properties, firstResult, maxResult);
 	}
+	
+	@Override
+	public List<SXRole> saveAll(Collection<SXRole> entities, int batchSize) {
+		return super.saveAll(entities, batchSize);
+	}
+	
+	@Override
+	public List<SXRole> saveAll(Collection<SXRole> entities, int batchSize,
+			boolean validateIntegrityConstraint,
+			boolean preValidateReferentialConstraint,
+			boolean postValidateReferentialConstraint) {
+		return super.saveAll(entities, batchSize, validateIntegrityConstraint,
+				preValidateReferentialConstraint, postValidateReferentialConstraint);
+	}
+	
+	@Override
+	public List<SXRole> updateAll(Map<Object, SXRole> entities) {
+		return super.updateAll(entities);
+	}
+	
+	@Override
+	public List<SXRole> updateAll(Map<Object, SXRole> entities, int batchSize,
+			boolean validateIntegrityConstraint,
+			boolean preValidateReferentialConstraint,
+			boolean postValidateReferentialConstraint) {
+		return super.updateAll(entities, batchSize, validateIntegrityConstraint,
+				preValidateReferentialConstraint, postValidateReferentialConstraint);
+	}
+	
+	@Override
+	public int deleteAll(Collection<?> entityIDs) {
+		return super.deleteAll(entityIDs);
+	}
+	
+	@Override
+	public int deleteAll(Collection<?> entityIDs,
+			boolean preValidateReferentialConstraint,
+			boolean postValidateReferentialConstraint) {
+		return super.deleteAll(entityIDs, preValidateReferentialConstraint,
+				postValidateReferentialConstraint);
+	}
+	
+	@Override
+	public int deleteWhere(List<Predicate> predicates) {
+		return super.deleteWhere(predicates);
+	}
+	
+	@Override
+	public int deleteWhere(List<Predicate> predicates,
+			boolean preValidateReferentialConstraint,
+			boolean postValidateReferentialConstraint) {
+		return super.deleteWhere(predicates, preValidateReferentialConstraint,
+				postValidateReferentialConstraint);
+	}
+	
+	@Override
+	public int updateWhere(List<Predicate> predicates, Map<String, Object> assignments) {
+		return super.updateWhere(predicates, assignments);
+	}
+	
+	@Override
+	public int updateWhere(List<Predicate> predicates, Map<String, Object> assignments,
+			boolean preValidateReferentialConstraint) {
+		return super.updateWhere(predicates, assignments, preValidateReferentialConstraint);
+	}
+	
+	@Override
+	public Stream<SXRole> stream(List<Predicate> predicates, Map<String, OrderType> orders, Set<String> properties, int fetchSize) {
+		return super.stream(predicates, orders, properties, fetchSize);
+	}
+	
+	@Override
+	public KeysetPage<SXRole> filter(List<Predicate> predicates, Map<String, OrderType> orders, Set<String> properties, KeysetCursor cursor, int maxResult) {
+		return super.filter(predicates, orders, properties, cursor, maxResult);
+	}
+	
+	@Override
+	public Page<SXRole> page(List<Predicate> predicates, Map<String, OrderType> orders, Set<String> properties, int firstResult, int maxResult) {
+		return super.page(predicates, orders, properties, firstResult, maxResult);
+	}
+	
+	@Override
+	public <R> List<R> filterProjection(List<Predicate> predicates, Map<String, OrderType> orders, List<String> columns, Class<R> resultClass, int firstResult, int maxResult) {
+		return super.filterProjection(predicates, orders, columns, resultClass, firstResult, maxResult);
+	}
+	
+	@Override
+	public List<Tuple> aggregate(List<Predicate> predicates, AggregationContainer aggregation) {
+		return super.aggregate(predicates, aggregation);
+	}
+	
+	@Override
+	public long[] countAll(List<List<Predicate>> predicateSets) {
+		return super.countAll(predicateSets);
+	}
+	
+	@Override
+	public boolean exists(List<Predicate> predicates) {
+		return super.exists(predicates);
+	}
+	
+	@Override
+	public boolean existsById(Object entityID) {
+		return super.existsById(entityID);
+	}
+	
+	@Override
+	public Map<Object, SXRole> findAllByPrimaryKeys(String entityIDName, Collection<?> entityIDs, Set<String> properties) {
+		return super.findAllByPrimaryKeys(entityIDName, entityIDs, properties);
+	}
+	
+	@Override
+	public Map<Object, SXRole> findAllByUniqueProperty(String propertyName, Collection<?> propertyValues, Set<String> properties) {
+		return super.findAllByUniqueProperty(propertyName, propertyValues, properties);
+	}
+	
+	@Override
+	public SXRole findByUniqueProperty(String propertyName, Object propertyValue, Set<String> properties) {
+		return super.findByUniqueProperty(propertyName, propertyValue, properties);
+	}
+	
+	@Override
+	public List<SXRole> loadAssociations(List<SXRole> entities, String... paths) {
+		return super.loadAssociations(entities, paths);
+	}
+	
+	@Override
+	public List<SXRole> loadHierarchy(List<Predicate> predicates, Map<String, OrderType> orders, String... childPaths) {
+		return super.loadHierarchy(predicates, orders, childPaths);
+	}
 }